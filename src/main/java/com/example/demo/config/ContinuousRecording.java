@@ -0,0 +1,58 @@
+package com.example.demo.config;
+
+import com.example.demo.jfr.AuthenticationEvent;
+import com.example.demo.jfr.RepositoryCallEvent;
+import com.example.demo.jfr.ScheduleComputedEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+// 항상 켜 두는 JFR recording (jfr 프로필)
+// - 디스크에 기록하되 max-size / max-age를 넘으면 오래된 chunk부터 버림 (링 버퍼) -> 용량 일정
+// - 지연이 튀었을 때 GET /admin/jfr/recording 으로 직전 구간을 받아서 JDK Mission Control로 분석
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jfr.recording.enabled", havingValue = "true")
+public class ContinuousRecording implements DisposableBean {
+
+    private final Recording recording;
+
+    public ContinuousRecording(
+            @Value("${jfr.recording.settings:default}") String settings,
+            @Value("${jfr.recording.max-size:100MB}") DataSize maxSize,
+            @Value("${jfr.recording.max-age:1h}") Duration maxAge,
+            @Value("${jfr.recording.repository-threshold:5ms}") Duration repositoryThreshold) throws IOException, ParseException {
+        // settings: JDK 기본 설정(default = 상시용 저부하, profile = 더 자세함) 또는 .jfc 파일 경로
+        this.recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName("demo-continuous");
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.setMaxAge(maxAge);
+        recording.enable(ScheduleComputedEvent.class);
+        recording.enable(AuthenticationEvent.class);
+        // repository 호출은 수가 많으므로 threshold 넘는 것만
+        recording.enable(RepositoryCallEvent.class).withThreshold(repositoryThreshold);
+        recording.start();
+        log.info("JFR 연속 기록 시작 (settings={}, max-size={}, max-age={})", settings, maxSize, maxAge);
+    }
+
+    // 지금까지 남아 있는 구간을 파일로 (기록은 계속됨)
+    public void dump(Path path) throws IOException {
+        recording.dump(path);
+    }
+
+    @Override
+    public void destroy() {
+        recording.close();
+    }
+}
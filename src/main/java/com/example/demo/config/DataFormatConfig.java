@@ -0,0 +1,121 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+// JSON 외 데이터 포맷 설정
+@Configuration
+public class DataFormatConfig implements WebMvcConfigurer {
+
+    // CBOR 날짜 태그 (RFC 8943: 1970-01-01 기준 일 수)
+    private static final int CBOR_TAG_EPOCH_DAYS = 100;
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> jacksonBuilder;
+
+    public DataFormatConfig(ObjectProvider<Jackson2ObjectMapperBuilder> jacksonBuilder) {
+        this.jacksonBuilder = jacksonBuilder;
+    }
+
+    // 가져오기/내보내기용 CSV (날짜는 yyyy-MM-dd 문자열, 빈 칸은 null, 모르는 컬럼은 무시)
+    // - 빈으로 등록하지 않음: CsvMapper도 ObjectMapper라서 빈이 있으면 부트 기본 JSON ObjectMapper가 만들어지지 않음
+    public static CsvMapper csvMapper() {
+        return CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    // Accept: application/cbor 또는 application/x-jackson-smile 이면 바이너리로 응답 (요청 본문도 같은 포맷 허용)
+    // - 기존 JSON 컨버터 뒤에 추가하므로 Accept가 없거나 */* 이면 그대로 JSON
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스에 있으면 기본 설정 컨버터가 먼저 등록되므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                compactBinaryMapper(jacksonBuilder.getObject(), new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                compactBinaryMapper(jacksonBuilder.getObject(), new SmileFactory())));
+    }
+
+    // 바이너리 포맷 전용 ObjectMapper (JSON과 같은 모듈/설정에 아래만 다름)
+    // - null 필드 생략 (일회성/반복 task마다 비는 필드가 있음)
+    // - enum은 순번 정수 (TaskType 상수 순서를 바꾸면 안 됨 - 새 상수는 끝에 추가)
+    // - LocalDate는 epoch day 정수 (CBOR은 태그 100을 붙임)
+    public static ObjectMapper compactBinaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder
+                .factory(factory)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToEnable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                // JavaTimeModule보다 나중에 등록해야 LocalDate 직렬화를 덮어씀
+                .postConfigurer(mapper -> mapper.registerModule(new SimpleModule("compact-dates")
+                        .addSerializer(LocalDate.class, new EpochDaySerializer())
+                        .addDeserializer(LocalDate.class, new EpochDayDeserializer())))
+                .build();
+    }
+
+    static class EpochDaySerializer extends StdScalarSerializer<LocalDate> {
+
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (gen instanceof CBORGenerator cbor) {
+                cbor.writeTag(CBOR_TAG_EPOCH_DAYS);
+            }
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    // epoch day 정수와 yyyy-MM-dd 문자열 둘 다 허용
+    static class EpochDayDeserializer extends StdScalarDeserializer<LocalDate> {
+
+        EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDate.ofEpochDay(p.getLongValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return LocalDate.parse(p.getText().trim());
+            }
+            return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, p);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// 읽기/쓰기 DataSource 분리 (datasource.routing.enabled=true 일 때만)
+// datasource.routing.primary.* / datasource.routing.replica.* 는 HikariDataSource 속성으로 바인딩됨
+// sharding.enabled=true 면 ShardingConfig가 DataSource를 구성하므로 비활성
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${datasource.routing.enabled:false} and !${sharding.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    @Value("${datasource.routing.replica-lag-tolerance:2s}")
+    private Duration replicaLagTolerance;
+
+    // replica 지연(초)을 돌려주는 쿼리 - 비어있으면 지연 측정 안 함
+    // 예) PostgreSQL: select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+    @Value("${datasource.routing.replica-lag-query:}")
+    private String replicaLagQuery;
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.primary")
+    public HikariDataSource writeDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica")
+    public HikariDataSource readDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            @Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagTolerance);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, writeDataSource,
+                ReplicationRoutingDataSource.REPLICA, readDataSource));
+        routingDataSource.setDefaultTargetDataSource(writeDataSource);
+        return routingDataSource;
+    }
+
+    // JPA 등 나머지는 전부 이 DataSource를 사용
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicationRoutingDataSource replicationRoutingDataSource,
+            @Qualifier("readDataSource") DataSource readDataSource) {
+        return new ReplicaLagMonitor(replicationRoutingDataSource, new JdbcTemplate(readDataSource),
+                replicaLagTolerance, replicaLagQuery);
+    }
+
+    // 주기적으로 replica 지연 측정 + 만료된 read-your-writes 기록 정리
+    @RequiredArgsConstructor
+    public static class ReplicaLagMonitor {
+
+        private final ReplicationRoutingDataSource routingDataSource;
+        private final JdbcTemplate replicaJdbcTemplate;
+        private final Duration replicaLagTolerance;
+        private final String replicaLagQuery;
+
+        @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:5000}")
+        public void check() {
+            routingDataSource.evictExpiredWrites();
+            if (!StringUtils.hasText(replicaLagQuery)) return;
+
+            boolean healthy;
+            try {
+                Double lagSeconds = replicaJdbcTemplate.queryForObject(replicaLagQuery, Double.class);
+                healthy = lagSeconds != null && lagSeconds * 1000 <= replicaLagTolerance.toMillis();
+            } catch (Exception e) {
+                log.warn("replica 지연 측정 실패: {}", e.getMessage());
+                healthy = false;
+            }
+            if (!healthy) log.warn("replica 지연이 허용치({})를 넘어 읽기를 primary로 보냅니다", replicaLagTolerance);
+            routingDataSource.setReplicaHealthy(healthy);
+        }
+    }
+}
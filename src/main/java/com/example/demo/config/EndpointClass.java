@@ -0,0 +1,20 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 요청 제한 정책을 나누는 엔드포인트 분류
+public enum EndpointClass {
+    AUTH,       // 로그인, 회원가입, 토큰 재발급 (인증 전이라 IP 기준)
+    TASK_READ,  // /todo/** GET
+    TASK_WRITE, // /todo/** POST, DELETE 등
+    OTHER;      // 정적 리소스 등 - 제한 없음
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/auth/")) return AUTH;
+        if (uri.startsWith("/todo/")) {
+            return "GET".equalsIgnoreCase(request.getMethod()) ? TASK_READ : TASK_WRITE;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import com.example.demo.jfr.RepositoryEventInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+// JFR 커스텀 이벤트 (com.example.demo.jfr) 설정
+// - 모든 Spring Data repository 프록시에 RepositoryEventInterceptor를 붙임
+// - 이벤트는 기록 중인 recording이 있을 때만 남음 (없으면 isEnabled() 확인 한 번으로 끝)
+@Configuration
+public class FlightRecorderConfig {
+
+    // repository factory bean이 초기화(프록시 생성)되기 전에 인터셉터 등록
+    @Bean
+    public static BeanPostProcessor repositoryEventsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryEventInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.config;
 
+import com.example.demo.jfr.AuthenticationEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,19 +24,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        String token = resolveToken(request);
+        // JFR 이벤트 - 토큰 검증(parse)과 사용자 조회(lookup) 시간을 나눠서 기록
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
+        long parseNanos = 0;
+        long lookupNanos = 0;
+
         try {
-            String token = resolveToken(request);
+            if (token != null) {
+                long start = System.nanoTime();
+                boolean valid = jwtTokenProvider.validateToken(token);
+                long parsed = System.nanoTime();
+                parseNanos = parsed - start;
 
-            // 유효한 토큰이 있는 경우에만 인증 정보 저장
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
+                // 유효한 토큰이 있는 경우에만 인증 정보 저장
+                if (valid) {
+                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                    lookupNanos = System.nanoTime() - parsed;
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
+                }
             }
         } catch (Exception e) {
             log.error("Security Filter에서 인증 처리 중 에러 발생: {}", e.getMessage());
         }
 
+        event.end();
+        // Authorization 헤더가 없는 요청은 기록 안 함
+        if (token != null && event.shouldCommit()) {
+            event.uri = request.getRequestURI();
+            event.parseNanos = parseNanos;
+            event.lookupNanos = lookupNanos;
+            event.authenticated = SecurityContextHolder.getContext().getAuthentication() != null;
+            event.commit();
+        }
+
         filterChain.doFilter(request, response);
     }
 
@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import com.example.demo.util.TokenBucketLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 요청 제한용 빈 + 유휴 버킷 정리
+// RateLimitFilter 자체는 빈으로 등록하지 않음 (서블릿 필터로 자동 등록되면 보안 필터 체인 밖에서 먼저 실행됨)
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    private final RateLimitProperties properties;
+    private final TokenBucketLimiter tokenBucketLimiter;
+
+    public RateLimitConfig(RateLimitProperties properties) {
+        this.properties = properties;
+        this.tokenBucketLimiter = new TokenBucketLimiter(properties.getStripes());
+    }
+
+    @Bean
+    public TokenBucketLimiter tokenBucketLimiter() {
+        return tokenBucketLimiter;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        int evicted = tokenBucketLimiter.evictIdle(properties.getIdleTimeout().toNanos());
+        if (evicted > 0) {
+            log.debug("유휴 rate limit 버킷 {}개 제거 (남은 버킷: {})", evicted, tokenBucketLimiter.size());
+        }
+    }
+}
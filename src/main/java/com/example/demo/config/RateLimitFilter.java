@@ -0,0 +1,150 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.ApiResponse;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.util.TokenBucketLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// JwtAuthenticationFilter 뒤에서 동작하는 요청 제한 필터
+// 1. 사용자별 token bucket (비로그인 요청은 IP 기준)
+// 2. 엔드포인트 분류별 전체 동시 처리 수 제한 -> 초과 시 대기하지 않고 바로 429
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final TokenBucketLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, Semaphore> concurrencyLimits = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketLimiter limiter, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+
+        properties.getLimits().forEach((endpointClass, limit) -> {
+            if (limit.getMaxConcurrent() > 0) {
+                concurrencyLimits.put(endpointClass, new Semaphore(limit.getMaxConcurrent()));
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || EndpointClass.of(request) == EndpointClass.OTHER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        RateLimitProperties.Limit limit = properties.limitOf(endpointClass);
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 1. 사용자별 요청 빈도 제한
+        String key = endpointClass.name() + ":" + resolveClientKey(request);
+        long waitNanos = limiter.tryConsume(key, limit.getCapacity(), limit.getRefillPerSecond());
+        if (waitNanos > 0) {
+            reject(response, ErrorCode.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            return;
+        }
+
+        // 2. 전체 동시 처리 수 제한 (DB 커넥션 풀 보호)
+        Semaphore semaphore = concurrencyLimits.get(endpointClass);
+        if (semaphore == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!semaphore.tryAcquire()) {
+            log.warn("동시 처리 한도 초과로 요청 거절: {} {}", endpointClass, request.getRequestURI());
+            reject(response, ErrorCode.SERVER_BUSY, Math.max(1, limit.getRetryAfter().toSeconds()));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 비동기 응답(SSE, StreamingResponseBody 등)은 여기서 돌아와도 아직 처리 중 -> 끝날 때 반납
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(semaphore));
+            } else {
+                semaphore.release();
+            }
+        }
+    }
+
+    // 인증된 사용자는 userId, 아니면 IP
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return "u" + authentication.getName();
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode errorCode, long retryAfterSeconds) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(errorCode).getBody());
+    }
+
+    // 비동기 처리가 끝나면 한 번만 반납 (onError/onTimeout 뒤에 onComplete도 호출됨)
+    private static class ReleaseOnCompletion implements AsyncListener {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnCompletion(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기를 다시 시작하면 리스너를 다시 등록해야 끝을 알 수 있음
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+}
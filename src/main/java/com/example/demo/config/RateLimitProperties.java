@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// rate-limit.* 설정 (엔드포인트 분류별 제한값)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이 시간 동안 요청이 없는 사용자 버킷은 메모리에서 제거
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private int stripes = 16;
+
+    private Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+
+    public Limit limitOf(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 사용자별 순간 최대 요청 수 (버킷 크기)
+        private long capacity = 20;
+        // 사용자별 초당 충전량
+        private double refillPerSecond = 5;
+        // 전체 동시 처리 요청 수 (0 이하면 제한 없음)
+        private int maxConcurrent = 0;
+        // 동시 처리 한도 초과 시 Retry-After 값
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+// @Transactional(readOnly = true) -> replica, 그 외 -> primary
+// - read-your-writes: 방금 쓰기 트랜잭션을 커밋한 사용자는 lag 허용시간 동안 primary에서 읽음
+//   - 같은 인스턴스: 메모리의 사용자별 마지막 쓰기 시각
+//   - 다른 인스턴스: 쓰기 커밋 시 응답에 last_write 쿠키(커밋 시각, 수명 = lag 허용시간)를 붙이고 다음 요청에서 확인
+//     (인스턴스 간 시계 차이는 허용시간보다 충분히 작아야 함, 쿠키를 보내지 않는 클라이언트는 sticky session 필요)
+// - replica 지연이 허용시간을 넘으면(replicaHealthy=false) 모든 읽기를 primary로
+// LazyConnectionDataSourceProxy로 감싸서 써야 트랜잭션 readOnly 플래그가 설정된 뒤에 커넥션을 고름
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    public static final String LAST_WRITE_COOKIE = "last_write";
+
+    private static final String WRITE_MARKER = ReplicationRoutingDataSource.class.getName() + ".WRITE";
+
+    private final long lagToleranceNanos;
+    private final ConcurrentHashMap<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private volatile boolean replicaHealthy = true;
+
+    public ReplicationRoutingDataSource(Duration lagTolerance) {
+        this.lagToleranceNanos = lagTolerance.toNanos();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite(user);
+            return PRIMARY;
+        }
+
+        if (!replicaHealthy || recentlyWrote(user)) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    public void setReplicaHealthy(boolean replicaHealthy) {
+        this.replicaHealthy = replicaHealthy;
+    }
+
+    // lag 허용시간이 지난 기록 정리 (스케줄러에서 호출)
+    public void evictExpiredWrites() {
+        long now = System.nanoTime();
+        lastWriteByUser.entrySet().removeIf(entry -> now - entry.getValue() > lagToleranceNanos);
+    }
+
+    private boolean recentlyWrote(String user) {
+        if (user == null) return false;
+        Long lastWrite = lastWriteByUser.get(user);
+        if (lastWrite != null && System.nanoTime() - lastWrite <= lagToleranceNanos) return true;
+        return recentlyWroteElsewhere();
+    }
+
+    // 다른 인스턴스에서 쓴 경우 - 요청의 last_write 쿠키 (미래 시각은 무시)
+    private boolean recentlyWroteElsewhere() {
+        HttpServletRequest request = currentRequest();
+        Cookie[] cookies = request != null ? request.getCookies() : null;
+        if (cookies == null) return false;
+        for (Cookie cookie : cookies) {
+            if (!LAST_WRITE_COOKIE.equals(cookie.getName())) continue;
+            try {
+                long elapsedMillis = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+                return elapsedMillis >= 0 && elapsedMillis * 1_000_000 <= lagToleranceNanos;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // 응답이 아직 나가기 전이면 커밋 시각 쿠키를 붙임
+    private void markWriteOnResponse() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return;
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) return;
+
+        ResponseCookie cookie = ResponseCookie.from(LAST_WRITE_COOKIE, String.valueOf(System.currentTimeMillis()))
+                .path("/")
+                .maxAge(Math.max(1, (lagToleranceNanos + 999_999_999) / 1_000_000_000))
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+
+    // 커밋 시점을 기준으로 기록 (트랜잭션당 한 번만 등록)
+    private void registerWrite(String user) {
+        if (user == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteByUser.put(user, System.nanoTime());
+                markWriteOnResponse();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
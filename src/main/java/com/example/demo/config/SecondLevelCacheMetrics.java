@@ -0,0 +1,41 @@
+package com.example.demo.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 2차 캐시 region별 적중률 주기적 로깅 (l2cache 프로필)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheMetrics {
+
+    private static final String[] REGIONS = {"user"};
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.metrics.log-interval:60000}")
+    public void logHitRatio() {
+        if (!statistics.isStatisticsEnabled()) return;
+
+        for (String region : REGIONS) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            long hits = stats.getHitCount();
+            long misses = stats.getMissCount();
+            double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+
+            log.info("2차 캐시 [{}] hit={}, miss={}, put={}, 적중률={}%, 메모리 엔트리={}",
+                    region, hits, misses, stats.getPutCount(),
+                    String.format("%.1f", hitRatio * 100), stats.getElementCountInMemory());
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.demo.config;
 
+import com.example.demo.util.TokenBucketLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +22,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenBucketLimiter tokenBucketLimiter;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -27,9 +33,10 @@ public class SecurityConfig {
 
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
-        // static 리소스, swagger만 무시 (필터 안 거침)
+        // 메인 화면, static 리소스, swagger는 무시 (JWT 필터 포함 보안 필터 체인을 아예 안 거침)
         return (web) -> web.ignoring()
                 .requestMatchers(
+                        "/", "/index.html",
                         "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
                         "/favicon.ico", "/css/**", "/js/**", "/images/**"
                 );
@@ -41,13 +48,19 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        // 1. 메인 화면, 로그인 관련은 통과
-                        .requestMatchers("/", "/index.html", "/api/auth/**").permitAll()
-                        // 2. 나머지는 인증 필요
+                        // 0. 비동기 응답 재디스패치 / 에러 페이지는 통과 (원래 요청에서 이미 인가됨, 세션이 없어 인증 정보도 없음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        // 1. 로그인 관련은 통과
+                        .requestMatchers("/api/auth/**").permitAll()
+                        // 2. 운영 도구는 관리자만
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // 3. 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
-                // 3. 필터 등록 (이게 있어야 로그가 뜸!)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                // 4. 필터 등록 (이게 있어야 로그가 뜸!)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                // 5. 요청 제한 (인증 정보가 있어야 사용자별 제한 가능하므로 JWT 필터 뒤)
+                .addFilterAfter(new RateLimitFilter(rateLimitProperties, tokenBucketLimiter, objectMapper), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import java.util.function.Supplier;
+
+// 현재 스레드에서 강제로 사용할 shard (배치 작업, 재배치 도구 등 로그인 사용자가 없는 곳에서 사용)
+// 지정하지 않으면 ShardRoutingDataSource가 JWT 사용자 기준으로 shard를 고름
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOnShard(int shardId, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shardId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOnShard(int shardId, Runnable action) {
+        callOnShard(shardId, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
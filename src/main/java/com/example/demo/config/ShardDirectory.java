@@ -0,0 +1,255 @@
+package com.example.demo.config;
+
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserSignedUpEvent;
+import com.example.demo.util.ConsistentHashRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// userId -> shard 배정표
+// - 가입 시 hash ring으로 shard를 정해서 global shard의 user_shard_assignments에 고정 기록
+//   (shard를 추가해도 기존 사용자는 재배치 전까지 원래 shard에 그대로 남음)
+// - 배정 기록이 없는 사용자 = sharding 도입 전 가입자 -> global shard
+//   (기록이 없다는 결과는 캐시하지 않음 - 다른 인스턴스에서 방금 가입해서 아직 기록 전일 수 있음)
+// - 라우팅 중(커넥션 획득 시점)에 조회되므로 JPA가 아닌 global shard 전용 JdbcTemplate 사용
+// - 배정 캐시는 최근 사용한 cacheSize 명까지만 유지
+@Slf4j
+public class ShardDirectory {
+
+    public static final int GLOBAL_SHARD = 0;
+
+    private static final int SIGNUP_ATTEMPTS = 3;
+    private static final int MISPLACED_PAGE_SIZE = 1000;
+
+    private final JdbcTemplate globalJdbcTemplate;
+    private final Map<Integer, DataSource> shards;
+    private final ConsistentHashRing ring;
+
+    private final Map<Long, Integer> assignments;
+    private final Set<Long> moving = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastRefreshedAt = LocalDateTime.now();
+
+    public ShardDirectory(DataSource globalDataSource, Map<Integer, DataSource> shards, ConsistentHashRing ring,
+                          int cacheSize) {
+        this.globalJdbcTemplate = new JdbcTemplate(globalDataSource);
+        this.shards = shards;
+        this.ring = ring;
+        this.assignments = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        globalJdbcTemplate.execute("""
+                create table if not exists user_shard_assignments (
+                    user_id bigint primary key,
+                    shard_id integer not null,
+                    moving boolean not null default false,
+                    updated_at timestamp not null
+                )""");
+    }
+
+    public Set<Integer> shardIds() {
+        return shards.keySet();
+    }
+
+    public DataSource dataSource(int shardId) {
+        DataSource dataSource = shards.get(shardId);
+        if (dataSource == null) throw new IllegalArgumentException("존재하지 않는 shard: " + shardId);
+        return dataSource;
+    }
+
+    public int shardOf(long userId) {
+        Integer cached = assignments.get(userId);
+        if (cached != null) return cached;
+
+        Integer shardId = globalJdbcTemplate.query(
+                "select shard_id from user_shard_assignments where user_id = ?",
+                rs -> rs.next() ? rs.getInt(1) : null, userId);
+        if (shardId == null) return GLOBAL_SHARD;
+        assignments.put(userId, shardId);
+        return shardId;
+    }
+
+    // 지금 hash ring 기준으로 있어야 할 shard (재배치 대상 판단용)
+    public int ringShardOf(long userId) {
+        return ring.shardOf(userId);
+    }
+
+    public boolean isMoving(long userId) {
+        return moving.contains(userId);
+    }
+
+    // 신규 가입자 배정 + 해당 shard에 users 행 복사 (tasks.user_id FK 때문에 필요)
+    // - 가입 요청 스레드에서 동기로 실행, 일시적인 오류는 몇 번 재시도
+    // - 끝내 실패하면 정리 후 예외를 그대로 던짐 -> AuthController가 가입을 취소 (배정 없이 남는 사용자 X)
+    @EventListener
+    public void onSignup(UserSignedUpEvent event) {
+        User user = event.user();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                register(user.getId(), user.getEmail(), user.getPassword(), user.getNickname());
+                return;
+            } catch (DataAccessException e) {
+                if (attempt >= SIGNUP_ATTEMPTS) {
+                    discardPartialSignup(user.getId());
+                    throw e;
+                }
+                log.warn("shard 배정 실패, 재시도 {}/{} - userId: {}", attempt, SIGNUP_ATTEMPTS, user.getId(), e);
+                sleep(Duration.ofMillis(100L * attempt));
+            }
+        }
+    }
+
+    // 재시도해도 되도록 이미 들어간 행은 그대로 둠
+    public int register(long userId, String email, String password, String nickname) {
+        int shardId = ring.shardOf(userId);
+        if (shardId != GLOBAL_SHARD) {
+            try {
+                new JdbcTemplate(dataSource(shardId)).update(
+                        "insert into users (id, email, password, nickname) values (?, ?, ?, ?)",
+                        userId, email, password, nickname);
+            } catch (DuplicateKeyException e) {
+                log.debug("shard {}에 이미 users 행이 있음 - userId: {}", shardId, userId);
+            }
+        }
+        upsert(userId, shardId, false);
+        assignments.put(userId, shardId);
+        return shardId;
+    }
+
+    // 배정 실패로 가입이 취소될 때 먼저 들어갔을 수 있는 행 정리 (여기서 실패해도 원래 예외를 던지도록 로그만)
+    private void discardPartialSignup(long userId) {
+        assignments.remove(userId);
+        try {
+            globalJdbcTemplate.update("delete from user_shard_assignments where user_id = ?", userId);
+            int shardId = ring.shardOf(userId);
+            if (shardId != GLOBAL_SHARD) {
+                new JdbcTemplate(dataSource(shardId)).update("delete from users where id = ?", userId);
+            }
+        } catch (DataAccessException e) {
+            log.error("가입 취소 정리 실패 - userId: {}", userId, e);
+        }
+    }
+
+    // 재배치 시작 - moving이 false인 경우에만 true로 (인스턴스가 여러 개여도 한 곳만 성공)
+    // 배정 기록이 없는 사용자(global shard)는 moving 상태로 새로 기록, 동시에 기록하면 한쪽은 실패
+    // 이동 도중 죽으면 moving이 남으므로 markMoving(userId, false)로 풀어줘야 다시 이동 가능
+    public boolean claimMove(long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = globalJdbcTemplate.update(
+                "update user_shard_assignments set moving = true, updated_at = ? where user_id = ? and moving = false",
+                now, userId);
+        if (updated == 0) {
+            Integer exists = globalJdbcTemplate.queryForObject(
+                    "select count(*) from user_shard_assignments where user_id = ?", Integer.class, userId);
+            if (exists != null && exists > 0) return false;
+            try {
+                globalJdbcTemplate.update(
+                        "insert into user_shard_assignments (user_id, shard_id, moving, updated_at) values (?, ?, true, ?)",
+                        userId, GLOBAL_SHARD, now);
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+        moving.add(userId);
+        return true;
+    }
+
+    // 캐시를 거치지 않고 배정 기록에서 바로 (다른 인스턴스가 방금 옮겼을 수 있을 때)
+    public int assignedShardOf(long userId) {
+        Integer shardId = globalJdbcTemplate.query(
+                "select shard_id from user_shard_assignments where user_id = ?",
+                rs -> rs.next() ? rs.getInt(1) : null, userId);
+        int assigned = shardId != null ? shardId : GLOBAL_SHARD;
+        assignments.put(userId, assigned);
+        return assigned;
+    }
+
+    // 재배치 중에는 쓰기 차단 (다른 인스턴스는 refresh 주기 안에 반영)
+    public void markMoving(long userId, boolean value) {
+        upsert(userId, shardOf(userId), value);
+        if (value) moving.add(userId);
+        else moving.remove(userId);
+    }
+
+    public void reassign(long userId, int shardId) {
+        dataSource(shardId);
+        upsert(userId, shardId, isMoving(userId));
+        assignments.put(userId, shardId);
+    }
+
+    // 배정 기록이 있는 사용자 중 ring 위치와 다른 shard에 있는 사용자 (최대 limit명)
+    // user_id 순으로 MISPLACED_PAGE_SIZE 행씩 읽고 limit명을 찾으면 멈춤 (배정표 전체를 메모리에 올리지 않음)
+    public List<Long> findMisplacedUsers(int limit) {
+        List<Long> misplaced = new ArrayList<>();
+        long afterUserId = Long.MIN_VALUE;
+        while (misplaced.size() < limit) {
+            List<Map.Entry<Long, Integer>> page = globalJdbcTemplate.query(
+                    "select user_id, shard_id from user_shard_assignments where user_id > ? order by user_id limit ?",
+                    (rs, rowNum) -> Map.entry(rs.getLong(1), rs.getInt(2)), afterUserId, MISPLACED_PAGE_SIZE);
+            for (Map.Entry<Long, Integer> entry : page) {
+                if (ring.shardOf(entry.getKey()) != entry.getValue()) {
+                    misplaced.add(entry.getKey());
+                    if (misplaced.size() == limit) break;
+                }
+            }
+            if (page.size() < MISPLACED_PAGE_SIZE) break;
+            afterUserId = page.get(page.size() - 1).getKey();
+        }
+        return misplaced;
+    }
+
+    // 다른 인스턴스에서 바뀐 배정 / 재배치 상태 반영 (마지막 갱신 이후 변경분만)
+    @Scheduled(fixedDelayString = "${sharding.directory-refresh-interval:5000}")
+    public void refresh() {
+        LocalDateTime since = lastRefreshedAt.minusSeconds(1);
+        lastRefreshedAt = LocalDateTime.now();
+        globalJdbcTemplate.query(
+                "select user_id, shard_id, moving from user_shard_assignments where updated_at >= ?",
+                rs -> {
+                    long userId = rs.getLong(1);
+                    int shardId = rs.getInt(2);
+                    // 캐시에 있는 사용자만 갱신 (없는 사용자는 필요할 때 조회)
+                    assignments.computeIfPresent(userId, (id, previous) -> shardId);
+                    if (rs.getBoolean(3)) moving.add(userId);
+                    else moving.remove(userId);
+                }, Timestamp.valueOf(since));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void upsert(long userId, int shardId, boolean movingFlag) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = globalJdbcTemplate.update(
+                "update user_shard_assignments set shard_id = ?, moving = ?, updated_at = ? where user_id = ?",
+                shardId, movingFlag, now, userId);
+        if (updated == 0) {
+            globalJdbcTemplate.update(
+                    "insert into user_shard_assignments (user_id, shard_id, moving, updated_at) values (?, ?, ?, ?)",
+                    userId, shardId, movingFlag, now);
+        }
+    }
+}
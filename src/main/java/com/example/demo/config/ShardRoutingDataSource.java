@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// 커넥션을 얻을 때 shard 선택
+// 1. ShardContext로 지정된 shard (배치, 재배치 도구)
+// 2. 로그인 사용자(JWT subject = userId)의 배정 shard
+// 3. 그 외(로그인 / 토큰 재발급 / JWT 필터의 사용자 조회 등) -> global shard
+// LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 시점에 고르도록 함
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardDirectory shardDirectory;
+
+    public ShardRoutingDataSource(ShardDirectory shardDirectory) {
+        this.shardDirectory = shardDirectory;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer forced = ShardContext.current();
+        if (forced != null) return forced;
+
+        Long userId = currentUserId();
+        return userId != null ? shardDirectory.shardOf(userId) : ShardDirectory.GLOBAL_SHARD;
+    }
+
+    static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) return null;
+        try {
+            return Long.parseLong(authentication.getName());
+        } catch (NumberFormatException e) {
+            return null; // anonymousUser 등
+        }
+    }
+}
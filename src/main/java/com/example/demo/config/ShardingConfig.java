@@ -0,0 +1,140 @@
+package com.example.demo.config;
+
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.util.ConsistentHashRing;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// userId 기준 수평 분할 (sharding.enabled=true 일 때만, datasource.routing 과는 같이 쓸 수 없음)
+// - tasks / task_completions / task_completion_archives 는 사용자 배정 shard에
+// - users 원본, refresh_tokens, user_shard_assignments 는 global shard(id 0)에
+// - 각 shard는 같은 스키마를 가짐 (shard의 users 행은 FK용 복사본)
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    // 테이블별 IDENTITY 시작값을 shard마다 다르게 -> 재배치 시 id 그대로 이동 가능
+    private static final List<String> SHARDED_TABLES = List.of(
+            "tasks", "task_completions", "task_completion_archives", "task_reminders", "task_agenda");
+
+    @Bean
+    public ShardDirectory shardDirectory(ShardingProperties properties) {
+        Map<Integer, DataSource> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(shard.getJdbcUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            if (shard.getDriverClassName() != null) dataSource.setDriverClassName(shard.getDriverClassName());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setPoolName("shard-" + shard.getId());
+            if (shards.put(shard.getId(), dataSource) != null) {
+                throw new IllegalStateException("shard id 중복: " + shard.getId());
+            }
+        }
+        if (!shards.containsKey(ShardDirectory.GLOBAL_SHARD)) {
+            throw new IllegalStateException("global shard(id 0) 설정이 필요합니다.");
+        }
+
+        List<Integer> accepting = properties.getShards().stream()
+                .filter(ShardingProperties.Shard::isAcceptNewUsers)
+                .map(ShardingProperties.Shard::getId)
+                .toList();
+        ConsistentHashRing ring = new ConsistentHashRing(accepting, properties.getVirtualNodes());
+        return new ShardDirectory(shards.get(ShardDirectory.GLOBAL_SHARD), shards, ring,
+                properties.getDirectoryCacheSize());
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardDirectory shardDirectory) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDirectory);
+        Map<Object, Object> targets = new HashMap<>();
+        shardDirectory.shardIds().forEach(id -> targets.put(id, shardDirectory.dataSource(id)));
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shardDirectory.dataSource(ShardDirectory.GLOBAL_SHARD));
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    // ddl-auto 는 global shard에만 적용되므로 나머지 shard 스키마는 여기서 생성 (sharding.initialize-schema=true)
+    @EventListener(ApplicationStartedEvent.class)
+    public void initializeShards(ApplicationStartedEvent event) {
+        ShardingProperties properties = event.getApplicationContext().getBean(ShardingProperties.class);
+        ShardDirectory shardDirectory = event.getApplicationContext().getBean(ShardDirectory.class);
+        SessionFactory sessionFactory = event.getApplicationContext().getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class);
+
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (properties.isInitializeSchema() && shard.getId() != ShardDirectory.GLOBAL_SHARD) {
+                ShardContext.runOnShard(shard.getId(), () -> sessionFactory.getSchemaManager().exportMappedObjects(true));
+            }
+            if (shard.getIdOffset() > 0) {
+                restartIdentities(new JdbcTemplate(shardDirectory.dataSource(shard.getId())), shard.getIdOffset());
+            }
+        }
+        log.info("sharding 활성화: shard {}개", properties.getShards().size());
+    }
+
+    // 비어있는(= 아직 offset 아래인) 테이블만 시작값 조정
+    private void restartIdentities(JdbcTemplate jdbcTemplate, long idOffset) {
+        for (String table : SHARDED_TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            if (maxId != null && maxId < idOffset) {
+                jdbcTemplate.execute("alter table " + table + " alter column id restart with " + (idOffset + 1));
+            }
+        }
+    }
+
+    // 재배치 중인 사용자의 쓰기 요청은 잠시 거절 (읽기는 원래 shard에서 계속)
+    @Bean
+    public WebMvcConfigurer shardMigrationGuard(ShardDirectory shardDirectory) {
+        HandlerInterceptor interceptor = new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (HttpMethod.GET.matches(request.getMethod())) return true;
+                Long userId = ShardRoutingDataSource.currentUserId();
+                if (userId != null && shardDirectory.isMoving(userId)) {
+                    throw new CustomException(ErrorCode.USER_MIGRATING);
+                }
+                return true;
+            }
+        };
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/todo/**");
+            }
+        };
+    }
+}
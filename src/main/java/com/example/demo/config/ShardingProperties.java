@@ -0,0 +1,48 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// sharding.* 설정
+// shards[0]은 global shard (users 원본, refresh token, 배치 checkpoint 등 사용자별로 나눌 수 없는 데이터)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    // shard당 hash ring 가상 노드 수
+    private int virtualNodes = 128;
+
+    // 기동 시 global 외 shard에도 JPA 스키마 생성 (로컬 / 테스트용, 운영은 마이그레이션 도구 사용)
+    private boolean initializeSchema = false;
+
+    // 다른 인스턴스에서 재배치된 사용자 정보를 다시 읽어오는 주기 (ms)
+    private long directoryRefreshInterval = 5000;
+
+    // 인스턴스마다 캐시해 두는 사용자 shard 배정 수 (최근 사용 순으로 유지)
+    private int directoryCacheSize = 100_000;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private int id;
+        private String jdbcUrl;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        // shard 간 id가 겹치지 않도록 IDENTITY 시작값 (재배치 시 id를 그대로 옮기기 위함)
+        private long idOffset = 0;
+        // false면 새 사용자 배정 대상에서 제외 (기존 사용자는 그대로)
+        private boolean acceptNewUsers = true;
+    }
+}
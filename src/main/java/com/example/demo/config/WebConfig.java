@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
+
+// 정적 리소스 서빙
+// - css/js: 빌드 시 파일명에 내용 해시가 붙으므로 1년 immutable 캐시
+// - index.html: 파일명이 고정이라 매번 재검증 (ETag / Last-Modified로 304)
+// - 빌드 시 만들어 둔 .br / .gz 파일을 Accept-Encoding에 맞춰 그대로 전송
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${static-resources.immutable-max-age:365d}")
+    private Duration immutableMaxAge;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        CacheControl immutable = CacheControl.maxAge(immutableMaxAge).cachePublic().immutable();
+        addPrecompressed(registry, "/css/**", "classpath:/static/css/", immutable);
+        addPrecompressed(registry, "/js/**", "classpath:/static/js/", immutable);
+        addPrecompressed(registry, "/index.html", "classpath:/static/", CacheControl.noCache());
+    }
+
+    private void addPrecompressed(ResourceHandlerRegistry registry, String pattern, String location, CacheControl cacheControl) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .setCacheControl(cacheControl)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+}
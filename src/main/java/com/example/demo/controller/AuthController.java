@@ -1,15 +1,22 @@
 package com.example.demo.controller;
 
-import com.example.demo.config.JwtTokenProvider;
+import com.example.demo.config.ShardContext;
+import com.example.demo.config.ShardDirectory;
 import com.example.demo.domain.User;
+import com.example.demo.domain.UserSignedUpEvent;
 import com.example.demo.dto.ApiResponse;
 import com.example.demo.dto.AuthDto;
 import com.example.demo.exception.CustomException;
 import com.example.demo.exception.ErrorCode;
 import com.example.demo.exception.SuccessCode;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.RefreshTokenService;
+import com.example.demo.service.RegisteredEmailFilter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,6 +24,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Locale;
+
+// 회원가입 / 로그인은 users 원본이 있는 global shard에서 (access token을 같이 보낸 요청이어도 사용자 shard로 가지 않도록)
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -24,39 +34,78 @@ public class AuthController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<String>> signup(@RequestBody @Valid AuthDto.SignupRequest request) {
+        ShardContext.runOnShard(ShardDirectory.GLOBAL_SHARD, () -> {
+            User user = User.builder()
+                    .email(request.getEmail())
+                    .password(passwordEncoder.encode(request.getPassword()))
+                    .nickname(request.getNickname())
+                    .build();
 
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
-        }
-
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .nickname(request.getNickname())
-                .build();
+            // 중복 확인은 users.email unique 제약조건에 맡김 (사전 조회 X, 동시 가입도 안전)
+            try {
+                userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                // 이메일 중복만 DUPLICATE_EMAIL, 다른 제약조건 위반(not null, 길이 등)은 그대로
+                if (isDuplicateEmail(e)) throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
+                throw e;
+            }
 
-        userRepository.save(user);
+            // shard 배정 등 후속 처리가 실패하면 가입 취소 (같은 이메일로 다시 가입할 수 있도록)
+            try {
+                eventPublisher.publishEvent(new UserSignedUpEvent(user));
+            } catch (RuntimeException e) {
+                userRepository.deleteById(user.getId());
+                throw e;
+            }
+            registeredEmailFilter.add(user.getEmail());
+        });
         return ApiResponse.success(SuccessCode.SIGNUP_SUCCESS);
     }
 
+    // 원인 중 users.email unique 제약조건(uk_users_email) 위반이 있는지
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+                return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
     // 로그인
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthDto.TokenResponse>> login(@RequestBody @Valid AuthDto.LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = ShardContext.callOnShard(ShardDirectory.GLOBAL_SHARD, () ->
+                registeredEmailFilter.findUser(request.getEmail())
+                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND)));
 
         // 비밀번호 체크
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
 
-        // 토큰 발급
-        String token = jwtTokenProvider.createToken(user.getId());
-        return ApiResponse.success(SuccessCode.LOGIN_SUCCESS, new AuthDto.TokenResponse(token));
+        // 토큰 발급 (access + refresh)
+        return ApiResponse.success(SuccessCode.LOGIN_SUCCESS, refreshTokenService.issue(user.getId()));
+    }
+
+    // access token 재발급 (비밀번호 검증 없이 refresh token 회전)
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthDto.TokenResponse>> refresh(@RequestBody @Valid AuthDto.RefreshRequest request) {
+        return ApiResponse.success(SuccessCode.REFRESH_SUCCESS, refreshTokenService.rotate(request.getRefreshToken()));
+    }
+
+    // 로그아웃 - refresh token 폐기
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestBody @Valid AuthDto.RefreshRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ApiResponse.success(SuccessCode.LOGOUT_SUCCESS);
     }
 }
@@ -0,0 +1,57 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.ContinuousRecording;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// JFR 연속 기록 내려받기 (ADMIN 권한 필요)
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jfr.recording.enabled", havingValue = "true")
+public class FlightRecorderController {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ContinuousRecording continuousRecording;
+
+    // 링 버퍼에 남아 있는 구간을 .jfr 파일로 (임시 파일에 덤프 후 전송하고 삭제)
+    @GetMapping("/recording")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() throws IOException {
+        Path file = Files.createTempFile("demo-", ".jfr");
+        try {
+            continuousRecording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        String filename = "demo-" + LocalDateTime.now().format(FILE_TIME) + ".jfr";
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.ShardDirectory;
+import com.example.demo.dto.ApiResponse;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.SuccessCode;
+import com.example.demo.service.ShardRebalancer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+// shard 재배치 관리용 (ADMIN 권한 필요)
+@RestController
+@RequestMapping("/admin/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardAdminController {
+
+    private final ShardDirectory shardDirectory;
+    private final ShardRebalancer shardRebalancer;
+
+    // 사용자의 현재 shard / hash ring 기준 shard
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> getUserShard(@PathVariable Long userId) {
+        return ApiResponse.success(SuccessCode.SELECT_SUCCESS, Map.of(
+                "current", shardDirectory.shardOf(userId),
+                "ring", shardDirectory.ringShardOf(userId)));
+    }
+
+    // 특정 사용자를 지정 shard로 이동
+    @PostMapping("/users/{userId}/move")
+    public ResponseEntity<ApiResponse<Boolean>> moveUser(@PathVariable Long userId, @RequestParam int target) {
+        if (!shardDirectory.shardIds().contains(target)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return ApiResponse.success(SuccessCode.UPDATE_SUCCESS, shardRebalancer.moveUser(userId, target));
+    }
+
+    // ring 위치와 다른 shard에 있는 사용자를 최대 limit명 이동 (shard 추가 / 제외 후 실행)
+    @PostMapping("/rebalance")
+    public ResponseEntity<ApiResponse<Integer>> rebalance(@RequestParam(defaultValue = "100") int limit) {
+        return ApiResponse.success(SuccessCode.UPDATE_SUCCESS, shardRebalancer.rebalance(limit));
+    }
+}
@@ -1,17 +1,30 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.ApiResponse;
+import com.example.demo.dto.TaskImportResult;
 import com.example.demo.dto.TaskRequest;
 import com.example.demo.dto.TaskResponse;
+import com.example.demo.dto.TaskSearchResult;
 import com.example.demo.exception.SuccessCode;
+import com.example.demo.service.TaskImportService;
+import com.example.demo.service.TaskSearchIndex;
 import com.example.demo.service.TaskService;
+import com.example.demo.service.TaskStreamService;
+import com.example.demo.service.TaskStreamService.ExportFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -21,7 +34,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final TaskService taskService;
+    private final TaskStreamService taskStreamService;
+    private final TaskImportService taskImportService;
+    private final TaskSearchIndex taskSearchIndex;
 
     // Task 등록
     @PostMapping
@@ -32,6 +51,46 @@ public class TaskController {
         return ApiResponse.success(SuccessCode.CREATE_SUCCESS, taskId);
     }
 
+    // Task 일괄 등록 (NDJSON 또는 CSV 본문을 스트리밍으로 처리)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<TaskImportResult>> importTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        Long userId = getUserId(userDetails);
+        TaskImportResult result = TEXT_CSV.isCompatibleWith(contentType)
+                ? taskImportService.importCsv(userId, body)
+                : taskImportService.importNdjson(userId, body);
+        return ApiResponse.success(SuccessCode.CREATE_SUCCESS, result);
+    }
+
+    // Task + 완료 이력 내보내기 (format=ndjson|csv, 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        Long userId = getUserId(userDetails);
+        ExportFormat exportFormat = "csv".equalsIgnoreCase(format) ? ExportFormat.CSV : ExportFormat.NDJSON;
+        MediaType mediaType = exportFormat == ExportFormat.CSV ? TEXT_CSV : APPLICATION_NDJSON;
+        String filename = exportFormat == ExportFormat.CSV ? "tasks.csv" : "tasks.ndjson";
+
+        StreamingResponseBody body = out -> taskStreamService.writeExport(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    // task 검색 (제목 + 설명, 마지막 단어는 입력 중인 것으로 보고 앞부분 일치도 포함)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<TaskSearchResult>>> searchTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<TaskSearchResult> results = taskSearchIndex.search(getUserId(userDetails), q, Math.min(Math.max(limit, 1), 100));
+        return ApiResponse.success(SuccessCode.SELECT_SUCCESS, results);
+    }
+
     // 오늘 task 목록 조회
     @GetMapping("/today")
     public ResponseEntity<ApiResponse<Map<String, List<TaskResponse>>>> getTasksForToday(
@@ -41,6 +100,16 @@ public class TaskController {
         return ApiResponse.success(SuccessCode.SELECT_SUCCESS, schedule);
     }
 
+    // 오늘 task 목록 조회 - 스트리밍 (?stream=true, 응답 형식은 동일)
+    @GetMapping(value = "/today", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamTasksForToday(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) LocalDate date) {
+        Long userId = getUserId(userDetails);
+        LocalDate target = getDateOrDefault(date);
+        return streaming(out -> taskStreamService.writeTaskSchedule(userId, target, out));
+    }
+
     // 작업 완료 처리
     @PostMapping("/{taskId}/complete")
     public ResponseEntity<ApiResponse<Void>> completeTask(
@@ -61,6 +130,32 @@ public class TaskController {
         return ApiResponse.success(SuccessCode.UPDATE_SUCCESS);
     }
 
+    // task 완료 이력 조회 (기본: 최근 1년)
+    @GetMapping("/{taskId}/history")
+    public ResponseEntity<ApiResponse<List<LocalDate>>> getCompletionHistory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        LocalDate end = getDateOrDefault(to);
+        LocalDate start = from == null ? end.minusYears(1) : from;
+        List<LocalDate> history = taskService.getCompletionHistory(getUserId(userDetails), taskId, start, end);
+        return ApiResponse.success(SuccessCode.SELECT_SUCCESS, history);
+    }
+
+    // task 완료 이력 조회 - 스트리밍 (?stream=true)
+    @GetMapping(value = "/{taskId}/history", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamCompletionHistory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        LocalDate end = getDateOrDefault(to);
+        LocalDate start = from == null ? end.minusYears(1) : from;
+        taskStreamService.verifyOwnedTask(getUserId(userDetails), taskId);
+        return streaming(out -> taskStreamService.writeCompletionHistory(taskId, start, end, out));
+    }
+
     // task 삭제
     @DeleteMapping("/{taskId}")
     public ResponseEntity<ApiResponse<Void>> deleteTask(
@@ -78,4 +173,8 @@ public class TaskController {
     private LocalDate getDateOrDefault(LocalDate date) {
         return date == null ? LocalDate.now() : date;
     }
+
+    private ResponseEntity<StreamingResponseBody> streaming(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
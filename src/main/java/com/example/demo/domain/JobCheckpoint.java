@@ -0,0 +1,43 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 배치 작업 진행 위치 (중단 후 재시작 시 이어서 처리)
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    // 마지막으로 처리한 행의 id
+    @Column(nullable = false)
+    private long lastId;
+
+    private LocalDateTime updatedAt;
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public void advance(long lastId) {
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 한 바퀴 다 돌았으면 처음부터
+    public void reset() {
+        advance(0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 배치 작업 실행 권한 (여러 인스턴스 중 한 곳에서만 실행되도록)
+// - lockedUntil이 지나면 다른 인스턴스가 가져갈 수 있음 (실행 중 죽은 인스턴스의 lock은 lease 만료로 풀림)
+// - checkpoint 행과 따로 두어서 checkpoint 저장(엔티티 전체 update)이 lock을 덮어쓰지 않게 함
+@Entity
+@Table(name = "job_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    private LocalDateTime lockedUntil;
+
+    public JobLock(String jobName) {
+        this.jobName = jobName;
+    }
+}
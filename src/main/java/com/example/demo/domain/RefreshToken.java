@@ -0,0 +1,54 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// refresh token은 원문 대신 SHA-256 해시만 저장 (DB 유출 시에도 재사용 불가)
+// 같은 로그인에서 회전된 토큰들은 familyId로 묶어서 재사용 감지 시 한 번에 폐기
+@Entity
+@Table(name = "refresh_tokens",
+    indexes = {
+        @Index(name = "idx_refresh_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "idx_refresh_token_family", columnList = "familyId")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 회전(사용)되었거나 폐기된 토큰
+    @Column(nullable = false)
+    private boolean revoked;
+
+    @Builder
+    public RefreshToken(Long userId, String tokenHash, String familyId, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -8,11 +8,19 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Auditable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+    indexes = {
+        // 사용자별 조회 (user_id = ? and deleted_at is null)
+        @Index(name = "idx_task_user_deleted", columnList = "user_id, deletedAt"),
+        // purge 대상 찾기 (deleted_at < ?)
+        @Index(name = "idx_task_deleted", columnList = "deletedAt")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 2차 캐시 X - 조회가 전부 JPQL(id 조회 아님)이고 bulk update/delete가 region을 통째로 비움
 public class Task extends BaseTimeEntity {
 
     @Id
@@ -36,6 +44,9 @@ public class Task extends BaseTimeEntity {
 
     private String recurrenceRule;
 
+    // 삭제 표시 (tombstone) - null이 아니면 모든 조회에서 제외되고 TaskPurgeJob이 나중에 실제 삭제
+    private LocalDateTime deletedAt;
+
     @Builder
     public Task(User user,  String title, String description, TaskType taskType, LocalDate dueDate, String recurrenceRule) {
         this.user = user;
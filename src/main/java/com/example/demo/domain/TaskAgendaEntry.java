@@ -0,0 +1,46 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 미리 펼쳐 둔 일정 한 칸 (사용자, 날짜, task) - 오늘 일정을 (user_id, agenda_date) 범위 조회 한 번으로 처리
+// - 반복 task는 반복 날짜마다, 일회성 task는 마감일부터 매일 (지난 마감은 완료 전까지 매일 오늘 일정에 나오므로)
+// - 지난 일회성 task를 그날 완료했는지는 조회할 때 완료 기록과 함께 판단
+@Entity
+@Table(name = "task_agenda",
+    uniqueConstraints = @UniqueConstraint(name = "uk_task_agenda", columnNames = {"user_id", "agenda_date", "task_id"}),
+    indexes = {
+        // task 삭제 / 다시 펼치기
+        @Index(name = "idx_task_agenda_task", columnList = "task_id, agenda_date"),
+        // 지난 날짜 정리
+        @Index(name = "idx_task_agenda_date", columnList = "agenda_date")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskAgendaEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // tasks 조인 없이 사용자 범위 조회하려고 따로 저장
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "agenda_date", nullable = false)
+    private LocalDate agendaDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    public TaskAgendaEntry(Long userId, LocalDate agendaDate, Task task) {
+        this.userId = userId;
+        this.agendaDate = agendaDate;
+        this.task = task;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 오래된 완료 기록의 월별 압축본 (task 하나, 한 달당 1행)
+// completedDays: 1일 -> bit 0, 31일 -> bit 30
+@Entity
+@Table(name = "task_completion_archives",
+    uniqueConstraints = @UniqueConstraint(name = "uk_archive_task_month", columnNames = {"task_id", "archiveMonth"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskCompletionArchive extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    // 해당 월의 1일
+    @Column(nullable = false)
+    private LocalDate archiveMonth;
+
+    @Column(nullable = false)
+    private int completedDays;
+
+    @Builder
+    public TaskCompletionArchive(Task task, LocalDate archiveMonth) {
+        this.task = task;
+        this.archiveMonth = archiveMonth.withDayOfMonth(1);
+    }
+
+    public void mark(int daysMask) {
+        this.completedDays |= daysMask;
+    }
+
+    public void unmark(LocalDate date) {
+        this.completedDays &= ~dayBit(date);
+    }
+
+    public int getCompletedCount() {
+        return Integer.bitCount(completedDays);
+    }
+
+    // [from, to] 범위에 속하는 완료 날짜 복원
+    public List<LocalDate> completionDatesBetween(LocalDate from, LocalDate to) {
+        return completionDates(archiveMonth, completedDays, from, to);
+    }
+
+    // 비트마스크 -> 날짜 목록 (오름차순), 엔티티 없이 컬럼 값만으로도 사용
+    public static List<LocalDate> completionDates(LocalDate archiveMonth, int completedDays, LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        int bits = completedDays;
+        while (bits != 0) {
+            int day = Integer.numberOfTrailingZeros(bits) + 1;
+            bits &= bits - 1;
+
+            LocalDate date = archiveMonth.withDayOfMonth(day);
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    public static int dayBit(LocalDate date) {
+        return 1 << (date.getDayOfMonth() - 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// task별 알림 설정 + 다음 알림 시각
+// - 알림 시각 = (일정 날짜 - daysBefore)의 reminderTime
+// - nextFireAt 인덱스로 가까운 시간대의 알림만 범위 조회 (전체 스캔 X), 더 이상 보낼 게 없으면 null
+@Entity
+@Table(name = "task_reminders",
+    indexes = @Index(name = "idx_task_reminder_next_fire", columnList = "nextFireAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskReminder extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false, unique = true)
+    private Task task;
+
+    @Column(nullable = false)
+    private LocalTime reminderTime;
+
+    @Column(nullable = false)
+    private int daysBefore;
+
+    // 다음 알림이 가리키는 일정 날짜
+    private LocalDate occurrenceDate;
+
+    private LocalDateTime nextFireAt;
+
+    @Builder
+    public TaskReminder(Task task, LocalTime reminderTime, int daysBefore) {
+        this.task = task;
+        this.reminderTime = reminderTime;
+        this.daysBefore = daysBefore;
+    }
+
+    public LocalDateTime fireTimeFor(LocalDate occurrence) {
+        return occurrence.minusDays(daysBefore).atTime(reminderTime);
+    }
+
+    public void scheduleFor(LocalDate occurrence) {
+        this.occurrenceDate = occurrence;
+        this.nextFireAt = occurrence == null ? null : fireTimeFor(occurrence);
+    }
+
+    // 알림 시각이 이미 지났으면 notBefore에 바로 울림 (일정 자체는 아직 안 지난 경우)
+    public void scheduleFor(LocalDate occurrence, LocalDateTime notBefore) {
+        scheduleFor(occurrence);
+        if (nextFireAt != null && nextFireAt.isBefore(notBefore)) nextFireAt = notBefore;
+    }
+}
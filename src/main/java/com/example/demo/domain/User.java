@@ -5,18 +5,25 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable // 2차 캐시 대상 (hibernate.cache.use_second_level_cache=true 일 때만 동작)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User extends BaseTimeEntity {
 
+    // 가입 중복 판정은 이 제약조건 위반으로만 (AuthController.signup)
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
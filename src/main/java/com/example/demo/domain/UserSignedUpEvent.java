@@ -0,0 +1,5 @@
+package com.example.demo.domain;
+
+// 회원가입 완료 이벤트 (users 저장 커밋 후 발행)
+public record UserSignedUpEvent(User user) {
+}
@@ -31,14 +31,28 @@ public class AuthDto {
         private String nickname;
     }
 
+    // 토큰 재발급 / 로그아웃 요청
+    @Getter
+    @NoArgsConstructor
+    public static class RefreshRequest {
+        @NotBlank
+        private String refreshToken;
+    }
+
     // JWT 토큰 response
     @Getter
     public static class TokenResponse {
         private String accessToken;
+        private String refreshToken;
         private String tokenType = "Bearer";
 
         public TokenResponse(String accessToken) {
             this.accessToken = accessToken;
         }
+
+        public TokenResponse(String accessToken, String refreshToken) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+        }
     }
 }
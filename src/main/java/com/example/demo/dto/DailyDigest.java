@@ -0,0 +1,8 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 사용자 한 명의 하루 일정 요약 (GET /todo/tasks/today 결과와 같은 내용, DigestSink로 넘어감)
+public record DailyDigest(Long userId, LocalDate date, List<TaskResponse> today, List<TaskResponse> upcoming) {
+}
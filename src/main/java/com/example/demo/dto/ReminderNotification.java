@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 알림 전달 단위 (ReminderSink로 넘어감)
+public record ReminderNotification(Long taskId, Long userId, String title,
+                                   LocalDate occurrenceDate, LocalDateTime fireAt) {
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import com.example.demo.domain.TaskType;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 내보내기 한 행 = task 하나 + 전체 완료 날짜 (NDJSON 한 줄 / CSV 한 행)
+// title ~ recurrenceRule은 TaskRequest와 필드명이 같아서 그대로 다시 가져오기 가능
+@Getter
+@Builder
+@JsonPropertyOrder({"id", "title", "description", "taskType", "dueDate", "recurrenceRule", "completions"})
+public class TaskExportRow {
+    private Long id;
+    private String title;
+    private String description;
+    private TaskType taskType;
+    private LocalDate dueDate;
+    private String recurrenceRule;
+    private List<LocalDate> completions;
+}
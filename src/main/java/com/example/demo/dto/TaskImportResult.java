@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 등록 결과 (실패한 행은 줄 번호와 사유를 함께 반환)
+@Getter
+@AllArgsConstructor
+public class TaskImportResult {
+
+    private final int importedCount;
+    private final int failedCount;
+    private final List<RowError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long line;
+        private final String message;
+    }
+}
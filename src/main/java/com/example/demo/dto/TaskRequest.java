@@ -6,11 +6,13 @@ import com.example.demo.domain.User;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Getter
 @NoArgsConstructor
@@ -29,13 +31,22 @@ public class TaskRequest {
 
     private String recurrenceRule;
 
+    // 알림 (선택) - 일정 날짜 reminderDaysBefore일 전 reminderTime에 알림
+    private LocalTime reminderTime;
+
+    @PositiveOrZero(message = "알림 일수는 0 이상이어야 합니다.")
+    private int reminderDaysBefore;
+
     @Builder
-    public TaskRequest(String title, String description, TaskType taskType, LocalDate dueDate, String recurrenceRule) {
+    public TaskRequest(String title, String description, TaskType taskType, LocalDate dueDate, String recurrenceRule,
+                       LocalTime reminderTime, int reminderDaysBefore) {
         this.title = title;
         this.description = description;
         this.taskType = taskType;
         this.dueDate = dueDate;
         this.recurrenceRule = recurrenceRule;
+        this.reminderTime = reminderTime;
+        this.reminderDaysBefore = reminderDaysBefore;
     }
 
     public Task toEntity(User user) {
@@ -6,10 +6,16 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class TaskResponse {
+
+    // 다가오는 일정 정렬 기준 (날짜 -> id)
+    public static final Comparator<TaskResponse> UPCOMING_ORDER =
+            Comparator.comparing(TaskResponse::getNextDate).thenComparing(TaskResponse::getId);
+
     private Long id;
     private String title;
     private String description;
@@ -17,6 +23,7 @@ public class TaskResponse {
     private LocalDate dueDate;      // 일회성용
     private String recurrenceRule;  // 주기성용
     private boolean isCompleted;
+    private LocalDate nextDate;     // 다가오는 일정(upcoming)의 다음 일정 날짜
 
     // 엔티티 -> DTO 변환 메서드
     public static TaskResponse from(Task task, boolean isCompleted) {
@@ -30,4 +37,17 @@ public class TaskResponse {
                 .isCompleted(isCompleted)
                 .build();
     }
+
+    // 다가오는 일정용 (일회성은 마감일, 반복은 다음 반복 날짜)
+    public static TaskResponse upcoming(Task task, LocalDate nextDate) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .taskType(task.getTaskType())
+                .dueDate(task.getDueDate())
+                .recurrenceRule(task.getRecurrenceRule())
+                .nextDate(nextDate)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import com.example.demo.domain.TaskType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder(toBuilder = true)
+public class TaskSearchResult {
+    private Long id;
+    private String title;
+    private TaskType taskType;
+    private LocalDate dueDate;
+    private String recurrenceRule;
+    private float score;
+}
@@ -16,6 +16,7 @@ public enum ErrorCode {
     // --- 401 Unauthorized ---
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 refresh token입니다. 다시 로그인해주세요."),
 
     // --- 403 Forbidden ---
     TASK_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 작업에 대한 권한이 없습니다."),
@@ -25,6 +26,13 @@ public enum ErrorCode {
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다."),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다."),
 
+    // --- 429 Too Many Requests ---
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.TOO_MANY_REQUESTS, "서버가 혼잡합니다. 잠시 후 다시 시도해주세요."),
+
+    // --- 503 Service Unavailable ---
+    USER_MIGRATING(HttpStatus.SERVICE_UNAVAILABLE, "데이터 이전 중입니다. 잠시 후 다시 시도해주세요."),
+
     // --- 500 Internal Server Error ---
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
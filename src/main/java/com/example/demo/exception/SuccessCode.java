@@ -13,6 +13,8 @@ public enum SuccessCode {
     UPDATE_SUCCESS(HttpStatus.OK, "수정 성공"),
     DELETE_SUCCESS(HttpStatus.OK, "삭제 성공"),
     LOGIN_SUCCESS(HttpStatus.OK, "로그인 성공"),
+    REFRESH_SUCCESS(HttpStatus.OK, "토큰 재발급 성공"),
+    LOGOUT_SUCCESS(HttpStatus.OK, "로그아웃 성공"),
 
     // 201 Created
     CREATE_SUCCESS(HttpStatus.CREATED, "생성 성공"),
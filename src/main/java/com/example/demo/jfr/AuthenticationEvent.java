@@ -0,0 +1,32 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// JwtAuthenticationFilter에서 토큰 하나 처리 (Authorization 헤더가 없는 요청은 기록 안 함)
+@Name("com.example.demo.Authentication")
+@Label("JWT Authentication")
+@Category({"Demo", "Security"})
+@Description("JWT parsing and user lookup in the authentication filter")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("Request URI")
+    public String uri;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseNanos;
+
+    @Label("Lookup Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lookupNanos;
+
+    @Label("Authenticated")
+    public boolean authenticated;
+}
@@ -0,0 +1,31 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Spring Data repository 메서드 호출 한 번 (Stream/Flux 반환은 쿼리 시작까지만 측정됨)
+// 호출한 서비스 코드를 볼 수 있게 스택 트레이스 포함
+@Name("com.example.demo.RepositoryCall")
+@Label("Repository Call")
+@Category({"Demo", "Persistence"})
+@Description("Spring Data repository method invocation")
+@StackTrace(true)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Result size for collections, 0/1 for single results, -1 when unknown")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
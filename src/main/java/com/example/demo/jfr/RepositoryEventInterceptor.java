@@ -0,0 +1,55 @@
+package com.example.demo.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.reactivestreams.Publisher;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+// repository 프록시에 붙어서 호출마다 RepositoryCallEvent 기록 (이벤트가 꺼져 있으면 바로 통과)
+public class RepositoryEventInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    public RepositoryEventInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.rows = failed ? -1 : rows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static int rows(Object result) {
+        if (result == null) return 0;
+        if (result instanceof Collection<?> collection) return collection.size();
+        if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+        if (result instanceof Number || result instanceof Boolean) return 1;
+        // Stream, Flux/Mono 등은 아직 읽기 전이라 모름
+        if (result instanceof Iterable<?> || result instanceof BaseStream<?, ?> || result instanceof Publisher<?>) return -1;
+        return 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// TaskService.getTaskSchedule 한 번 (duration = 조회 + 계산 전체)
+@Name("com.example.demo.ScheduleComputed")
+@Label("Schedule Computed")
+@Category({"Demo", "Task"})
+@Description("Today/upcoming schedule computation for one user")
+@StackTrace(false)
+public class ScheduleComputedEvent extends Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Date")
+    public String date;
+
+    @Label("From Agenda")
+    @Description("Served from the materialized task_agenda rows instead of scanning every task")
+    public boolean fromAgenda;
+
+    @Label("Tasks Scanned")
+    public int tasksScanned;
+
+    @Label("Today Matches")
+    public int todayMatches;
+
+    @Label("Upcoming Matches")
+    public int upcomingMatches;
+
+    @Label("Completions Fetched")
+    public int completionsFetched;
+}
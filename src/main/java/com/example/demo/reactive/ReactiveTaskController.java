@@ -0,0 +1,64 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.ApiResponse;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.exception.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// TaskController의 조회 / 완료 / 취소와 같은 API를 R2DBC 기반으로 (reactive 프로필, 성능 비교용)
+// Mono를 반환하므로 DB 응답을 기다리는 동안 요청 스레드를 점유하지 않음 (servlet async)
+@RestController
+@Profile("reactive")
+@RequestMapping("/todo/reactive/tasks")
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    // 오늘 task 목록 조회
+    @GetMapping("/today")
+    public Mono<ResponseEntity<ApiResponse<Map<String, List<TaskResponse>>>>> getTasksForToday(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) LocalDate date) {
+        return reactiveTaskService.getTaskSchedule(getUserId(userDetails), getDateOrDefault(date))
+                .map(schedule -> ApiResponse.success(SuccessCode.SELECT_SUCCESS, schedule));
+    }
+
+    // 작업 완료 처리
+    @PostMapping("/{taskId}/complete")
+    public Mono<ResponseEntity<ApiResponse<Void>>> completeTask(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) LocalDate date) {
+        return reactiveTaskService.completeTask(getUserId(userDetails), taskId, getDateOrDefault(date))
+                .then(Mono.fromSupplier(() -> ApiResponse.<Void>success(SuccessCode.UPDATE_SUCCESS)));
+    }
+
+    // task 완료 취소
+    @DeleteMapping("/{taskId}/complete")
+    public Mono<ResponseEntity<ApiResponse<Void>>> cancelTaskCompletion(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) LocalDate date) {
+        return reactiveTaskService.cancelTaskCompletion(getUserId(userDetails), taskId, getDateOrDefault(date))
+                .then(Mono.fromSupplier(() -> ApiResponse.<Void>success(SuccessCode.UPDATE_SUCCESS)));
+    }
+
+    private Long getUserId(UserDetails userDetails) {
+        return Long.parseLong(userDetails.getUsername());
+    }
+
+    private LocalDate getDateOrDefault(LocalDate date) {
+        return date == null ? LocalDate.now() : date;
+    }
+}
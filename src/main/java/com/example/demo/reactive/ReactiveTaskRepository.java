@@ -0,0 +1,44 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+// reactive 프로필 전용 R2DBC 레포지토리 (TaskRepository / TaskCompletionRepository와 같은 쿼리를 논블로킹으로)
+// 완료/취소는 단일 SQL 한 번으로 처리 (소유자 확인 포함, 별도 트랜잭션 불필요)
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRow, Long> {
+
+    // 삭제 표시(tombstone)된 task 제외
+    @Query("SELECT * FROM tasks WHERE user_id = :userId AND deleted_at IS NULL")
+    Flux<TaskRow> findAllByUserId(Long userId);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM tasks WHERE id = :id AND user_id = :userId AND deleted_at IS NULL)")
+    Mono<Boolean> existsByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT c.task_id FROM task_completions c JOIN tasks t ON t.id = c.task_id " +
+            "WHERE t.user_id = :userId AND c.completion_date = :date")
+    Flux<Long> findCompletedTaskIds(Long userId, LocalDate date);
+
+    // 본인 task이고 아직 완료 기록이 없을 때만 insert
+    @Modifying
+    @Query("INSERT INTO task_completions (task_id, completion_date, created_at, updated_at) " +
+            "SELECT t.id, :date, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM tasks t " +
+            "WHERE t.id = :taskId AND t.user_id = :userId AND t.deleted_at IS NULL AND NOT EXISTS " +
+            "(SELECT 1 FROM task_completions c WHERE c.task_id = t.id AND c.completion_date = :date)")
+    Mono<Integer> insertCompletionIfAbsent(Long userId, Long taskId, LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM task_completions WHERE completion_date = :date AND task_id IN " +
+            "(SELECT t.id FROM tasks t WHERE t.id = :taskId AND t.user_id = :userId AND t.deleted_at IS NULL)")
+    Mono<Integer> deleteOwnedCompletion(Long userId, Long taskId, LocalDate date);
+
+    // 아카이브된 날짜의 비트 제거 (비트 연산 대신 사칙연산으로 - DB 공통)
+    @Modifying
+    @Query("UPDATE task_completion_archives SET completed_days = completed_days - :dayBit " +
+            "WHERE task_id = :taskId AND archive_month = :archiveMonth AND MOD(completed_days / :dayBit, 2) = 1")
+    Mono<Integer> unmarkArchived(Long taskId, LocalDate archiveMonth, int dayBit);
+}
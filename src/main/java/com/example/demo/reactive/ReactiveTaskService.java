@@ -0,0 +1,71 @@
+package com.example.demo.reactive;
+
+import com.example.demo.domain.TaskCompletionArchive;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.service.ScheduleBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// TaskService의 조회 / 완료 / 취소를 R2DBC로 구현한 논블로킹 버전 (reactive 프로필)
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+
+    // TaskService.getTaskSchedule과 같은 결과
+    public Mono<Map<String, List<TaskResponse>>> getTaskSchedule(Long userId, LocalDate date) {
+        Mono<List<TaskRow>> tasks = reactiveTaskRepository.findAllByUserId(userId).collectList();
+        Mono<Set<Long>> completedTaskIds = reactiveTaskRepository.findCompletedTaskIds(userId, date)
+                .collect(Collectors.toSet());
+
+        return Mono.zip(tasks, completedTaskIds).map(tuple -> {
+            Set<Long> completed = tuple.getT2();
+            ScheduleBuilder schedule = new ScheduleBuilder(date);
+            for (TaskRow task : tuple.getT1()) {
+                schedule.offer(task.getTaskType(), task.getDueDate(), task.getRecurrenceRule(), task.getCreatedAt(),
+                        toResponse(task, completed.contains(task.getId())));
+            }
+            return schedule.build();
+        });
+    }
+
+    public Mono<Void> completeTask(Long userId, Long taskId, LocalDate date) {
+        return reactiveTaskRepository.insertCompletionIfAbsent(userId, taskId, date)
+                .flatMap(inserted -> inserted > 0 ? Mono.<Void>empty() : requireOwnedTask(userId, taskId));
+    }
+
+    public Mono<Void> cancelTaskCompletion(Long userId, Long taskId, LocalDate date) {
+        return reactiveTaskRepository.deleteOwnedCompletion(userId, taskId, date)
+                .flatMap(deleted -> deleted > 0 ? Mono.<Void>empty() : requireOwnedTask(userId, taskId))
+                .then(reactiveTaskRepository.unmarkArchived(taskId, date.withDayOfMonth(1), TaskCompletionArchive.dayBit(date)))
+                .then();
+    }
+
+    // 변경된 행이 없을 때 - task가 없거나 남의 것이면 404
+    private Mono<Void> requireOwnedTask(Long userId, Long taskId) {
+        return reactiveTaskRepository.existsByIdAndUserId(taskId, userId)
+                .flatMap(exists -> exists ? Mono.<Void>empty() : Mono.error(new CustomException(ErrorCode.TASK_NOT_FOUND)));
+    }
+
+    private TaskResponse toResponse(TaskRow task, boolean isCompleted) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .taskType(task.getTaskType())
+                .dueDate(task.getDueDate())
+                .recurrenceRule(task.getRecurrenceRule())
+                .isCompleted(isCompleted)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.reactive;
+
+import com.example.demo.domain.TaskType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// R2DBC용 tasks 테이블 매핑 (읽기 전용, 스키마는 JPA 엔티티 Task 기준)
+@Table("tasks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskRow {
+
+    @Id
+    private Long id;
+    private Long userId;
+    private String title;
+    private String description;
+    private TaskType taskType;
+    private LocalDate dueDate;
+    private String recurrenceRule;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,7 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
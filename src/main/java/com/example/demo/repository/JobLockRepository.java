@@ -0,0 +1,26 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // 비어 있거나, 만료됐거나, 이미 내 것이면 (연장) 가져감 -> 1이면 성공
+    @Modifying
+    @Query("update JobLock l set l.lockedBy = :owner, l.lockedUntil = :until " +
+            "where l.jobName = :jobName and (l.lockedBy is null or l.lockedBy = :owner or l.lockedUntil < :now)")
+    int tryLock(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("update JobLock l set l.lockedBy = null, l.lockedUntil = null " +
+            "where l.jobName = :jobName and l.lockedBy = :owner")
+    int unlock(@Param("jobName") String jobName, @Param("owner") String owner);
+}
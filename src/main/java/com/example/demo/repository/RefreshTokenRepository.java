@@ -0,0 +1,31 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // 해시 인덱스로 단건 조회
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 아직 사용되지 않은 경우에만 사용처리 -> 0이면 이미 누가 사용함 (동시 요청도 한 쪽만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken rt set rt.revoked = true where rt.id = :id and rt.revoked = false")
+    int markUsed(@Param("id") Long id);
+
+    // 재사용 감지 / 로그아웃 시 같은 로그인에서 나온 토큰 전부 폐기
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken rt set rt.revoked = true where rt.familyId = :familyId and rt.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 만료된 토큰 정리
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,72 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskAgendaEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TaskAgendaRepository extends JpaRepository<TaskAgendaEntry, Long> {
+
+    // 그날 일정 후보 + 그날 완료 여부 (uk_task_agenda 인덱스 범위 조회 + 완료 기록 조인)
+    @Query("select t as task, case when tc.id is null then false else true end as completed " +
+            "from TaskAgendaEntry a join a.task t " +
+            "left join TaskCompletion tc on tc.task = t and tc.completionDate = :date " +
+            "where a.userId = :userId and a.agendaDate = :date and t.deletedAt is null order by t.id")
+    List<DayRow> findDay(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // (date, until] 사이 task별 첫 일정 날짜, 가까운 순 (일회성은 마감일 행만 - 그 뒤 행은 지난 마감 표시용)
+    @Query("select t as task, min(a.agendaDate) as nextDate " +
+            "from TaskAgendaEntry a join a.task t " +
+            "where a.userId = :userId and a.agendaDate > :date and a.agendaDate <= :until and t.deletedAt is null " +
+            "and (t.taskType = com.example.demo.domain.TaskType.RECURRING or a.agendaDate = t.dueDate) " +
+            "group by t order by min(a.agendaDate), t.id")
+    List<UpcomingRow> findUpcoming(@Param("userId") Long userId, @Param("date") LocalDate date,
+                                   @Param("until") LocalDate until, Limit limit);
+
+    // [date, until]에 펼쳐진 행이 없는 task (다음 일정이 펼친 범위 밖이거나 아예 없음)
+    @Query("select t from Task t where t.user.id = :userId and t.deletedAt is null and not exists " +
+            "(select a.id from TaskAgendaEntry a where a.task = t and a.agendaDate between :date and :until)")
+    List<Task> findTasksOutside(@Param("userId") Long userId, @Param("date") LocalDate date,
+                                @Param("until") LocalDate until);
+
+    // task 삭제 시 (본인 task인 경우만)
+    @Modifying
+    @Query("delete from TaskAgendaEntry a where a.task.id = :taskId and a.userId = :userId")
+    int deleteOwnedByTask(@Param("userId") Long userId, @Param("taskId") Long taskId);
+
+    // 사용자 일정 다시 펼치기 전에 (가져오기 후)
+    @Modifying
+    @Query("delete from TaskAgendaEntry a where a.userId = :userId and a.agendaDate >= :from")
+    int deleteAllByUserFrom(@Param("userId") Long userId, @Param("from") LocalDate from);
+
+    // 범위 다시 펼치기 전에 (같은 범위를 여러 번 펼쳐도 중복 없음)
+    @Modifying
+    @Query("delete from TaskAgendaEntry a where a.task.id in :taskIds and a.agendaDate between :from and :to")
+    int deleteAllByTaskIdsBetween(@Param("taskIds") List<Long> taskIds,
+                                  @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 지난 날짜 정리용 - limit 건씩
+    @Query("select a.id from TaskAgendaEntry a where a.agendaDate < :before")
+    List<Long> findIdsBefore(@Param("before") LocalDate before, Limit limit);
+
+    // purge용
+    @Modifying
+    @Query("delete from TaskAgendaEntry a where a.task.id in :taskIds")
+    int deleteAllByTaskIds(@Param("taskIds") List<Long> taskIds);
+
+    interface DayRow {
+        Task getTask();
+        Boolean getCompleted();
+    }
+
+    interface UpcomingRow {
+        Task getTask();
+        LocalDate getNextDate();
+    }
+}
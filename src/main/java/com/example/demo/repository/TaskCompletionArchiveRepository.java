@@ -0,0 +1,53 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskCompletionArchive;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface TaskCompletionArchiveRepository extends JpaRepository<TaskCompletionArchive, Long> {
+
+    // 아카이빙 시 기존 월별 행에 병합, 완료 취소 대상이 아카이브된 날짜인 경우
+    Optional<TaskCompletionArchive> findByTaskIdAndArchiveMonth(Long taskId, LocalDate archiveMonth);
+
+    // 이력 조회용 (월 단위)
+    List<TaskCompletionArchive> findAllByTaskAndArchiveMonthBetween(Task task, LocalDate fromMonth, LocalDate toMonth);
+
+    // 이력 스트리밍용 (월순)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "100"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select a from TaskCompletionArchive a " +
+            "where a.task.id = :taskId and a.archiveMonth between :fromMonth and :toMonth order by a.archiveMonth")
+    Stream<TaskCompletionArchive> streamByTaskId(@Param("taskId") Long taskId,
+                                                 @Param("fromMonth") LocalDate fromMonth,
+                                                 @Param("toMonth") LocalDate toMonth);
+
+    // 내보내기용 - 사용자의 모든 아카이브를 task id 순으로 (엔티티 X)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select a.task.id as taskId, a.archiveMonth as archiveMonth, a.completedDays as completedDays " +
+            "from TaskCompletionArchive a where a.task.user.id = :userId and a.task.deletedAt is null " +
+            "order by a.task.id, a.archiveMonth")
+    Stream<ArchiveMonthRow> streamArchiveRowsByUserId(@Param("userId") Long userId);
+
+    // purge용 - 삭제된 task들의 아카이브 (task당 월 1행이라 한 번에)
+    @Modifying
+    @Query("delete from TaskCompletionArchive a where a.task.id in :taskIds")
+    int deleteAllByTaskIds(@Param("taskIds") List<Long> taskIds);
+
+    interface ArchiveMonthRow {
+        Long getTaskId();
+        LocalDate getArchiveMonth();
+        int getCompletedDays();
+    }
+}
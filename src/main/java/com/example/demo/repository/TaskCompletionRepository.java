@@ -2,24 +2,63 @@ package com.example.demo.repository;
 
 import com.example.demo.domain.Task;
 import com.example.demo.domain.TaskCompletion;
-import com.example.demo.domain.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface TaskCompletionRepository extends JpaRepository<TaskCompletion, Long> {
 
     // 특정 날짜에 해당 작업이 완료되었는지 확인
     boolean existsByTaskAndCompletionDate(Task task, LocalDate date);
 
-    // 특정 날짜의 사용자 완료 기록을 한번에 조회 (N+1 문제 방지)
-    List<TaskCompletion> findByTaskUserAndCompletionDate(User user, LocalDate date);
+    // 특정 날짜에 완료된 사용자의 task id를 한번에 조회 (N+1 문제 방지, users 조인 없음)
+    @Query("select tc.task.id from TaskCompletion tc where tc.task.user.id = :userId and tc.completionDate = :date")
+    List<Long> findCompletedTaskIds(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 일일 요약 배치용 - 사용자 id 범위 단위로 한 번에
+    @Query("select tc.task.id from TaskCompletion tc " +
+            "where tc.task.user.id between :fromUserId and :toUserId and tc.completionDate = :date")
+    List<Long> findCompletedTaskIdsForUsers(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId,
+                                            @Param("date") LocalDate date);
+
+    // 특정 날짜 완료 기록 삭제 (본인 task인 경우만)
+    @Modifying
+    @Query("delete from TaskCompletion tc where tc.completionDate = :date and tc.task.id in " +
+            "(select t.id from Task t where t.id = :taskId and t.user.id = :userId and t.deletedAt is null)")
+    int deleteOwnedCompletion(@Param("userId") Long userId, @Param("taskId") Long taskId, @Param("date") LocalDate date);
+
+    // 기간 내 완료 기록 (이력 조회용)
+    List<TaskCompletion> findByTaskAndCompletionDateBetween(Task task, LocalDate from, LocalDate to);
+
+    // 기간 내 완료 날짜 스트리밍 (날짜순)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select tc.completionDate from TaskCompletion tc " +
+            "where tc.task.id = :taskId and tc.completionDate between :from and :to order by tc.completionDate")
+    Stream<LocalDate> streamCompletionDates(@Param("taskId") Long taskId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // purge용 - 삭제된 task들의 완료 기록 id를 limit 건씩 (deleteAllByIdInBatch로 나눠서 삭제)
+    @Query("select tc.id from TaskCompletion tc where tc.task.id in :taskIds")
+    List<Long> findIdsByTaskIds(@Param("taskIds") List<Long> taskIds, Limit limit);
 
-    // 특정 날짜 완료 기록 조회 -> 삭제용
-    Optional<TaskCompletion> findByTaskAndCompletionDate(Task task, LocalDate date);
+    // 아카이빙 대상 조회 - id 순으로 afterId 다음부터 limit 건 (엔티티 대신 필요한 컬럼만)
+    @Query("select tc.id as id, tc.task.id as taskId, tc.completionDate as completionDate " +
+            "from TaskCompletion tc where tc.id > :afterId and tc.completionDate < :before " +
+            "and tc.task.deletedAt is null order by tc.id")
+    List<ArchiveRow> findArchiveCandidates(@Param("afterId") long afterId, @Param("before") LocalDate before, Limit limit);
 
-    // task 삭제 시 완료 기록도 함께 삭제
-    void deleteAllByTask(Task task);
+    interface ArchiveRow {
+        Long getId();
+        Long getTaskId();
+        LocalDate getCompletionDate();
+    }
 }
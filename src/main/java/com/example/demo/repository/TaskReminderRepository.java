@@ -0,0 +1,46 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.TaskReminder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskReminderRepository extends JpaRepository<TaskReminder, Long> {
+
+    // 알림 구간 로딩 - [from, to) 사이에 울릴 알림을 id 순으로 잘라서 (엔티티 X)
+    @Query("select r.id as id, t.id as taskId, t.user.id as userId, t.title as title, " +
+            "r.occurrenceDate as occurrenceDate, r.nextFireAt as nextFireAt " +
+            "from TaskReminder r join r.task t " +
+            "where r.nextFireAt >= :from and r.nextFireAt < :to and r.id > :afterId and t.deletedAt is null " +
+            "order by r.id")
+    List<ReminderRow> findDueBetween(@Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("afterId") long afterId,
+                                     Limit limit);
+
+    // task 삭제 시 알림도 함께 삭제 (본인 task인 경우만)
+    @Modifying
+    @Query("delete from TaskReminder r where r.task.id in " +
+            "(select t.id from Task t where t.id = :taskId and t.user.id = :userId)")
+    int deleteAllOwnedByTask(@Param("userId") Long userId, @Param("taskId") Long taskId);
+
+    // purge용
+    @Modifying
+    @Query("delete from TaskReminder r where r.task.id in :taskIds")
+    int deleteAllByTaskIds(@Param("taskIds") List<Long> taskIds);
+
+    interface ReminderRow {
+        Long getId();
+        Long getTaskId();
+        Long getUserId();
+        String getTitle();
+        LocalDate getOccurrenceDate();
+        LocalDateTime getNextFireAt();
+    }
+}
@@ -1,13 +1,96 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Task;
-import com.example.demo.domain.User;
+import com.example.demo.domain.TaskType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    // 사용자의 task 목록 전부 조회 - fetch join 고려?
-    List<Task> findAllByUser(User user);
+    // 삭제 표시(tombstone)된 task는 모든 조회에서 제외 - (user_id, deleted_at) 인덱스를 그대로 탐
+
+    // 사용자의 task 목록 전부 조회 (users 조회 없이 user_id로)
+    @Query("select t from Task t where t.user.id = :userId and t.deletedAt is null")
+    List<Task> findAllByUserId(@Param("userId") Long userId);
+
+    // 스트리밍 조회 (트랜잭션 안에서 사용, 다 쓴 엔티티는 detach 해줘야 힙이 일정하게 유지됨)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "200"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select t from Task t where t.user.id = :userId and t.deletedAt is null order by t.id")
+    Stream<Task> streamAllByUserId(@Param("userId") Long userId);
+
+    // 내보내기용 - task와 (아카이브 안 된) 완료 기록을 task id 순으로 한 번에 스트리밍 (엔티티 X)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select t.id as taskId, t.title as title, t.description as description, t.taskType as taskType, " +
+            "t.dueDate as dueDate, t.recurrenceRule as recurrenceRule, tc.completionDate as completionDate " +
+            "from Task t left join TaskCompletion tc on tc.task = t " +
+            "where t.user.id = :userId and t.deletedAt is null order by t.id, tc.completionDate")
+    Stream<ExportRow> streamExportRows(@Param("userId") Long userId);
+
+    // 일일 요약 배치용 - task가 있는 사용자 id를 순서대로 (id 범위 파티션 경계)
+    @Query("select distinct t.user.id from Task t where t.user.id > :afterUserId and t.deletedAt is null order by t.user.id")
+    List<Long> findOwnerIdsAfter(@Param("afterUserId") long afterUserId, Limit limit);
+
+    // 사용자 id 범위의 task 전부 (파티션 하나 분량)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("select t from Task t where t.user.id between :fromUserId and :toUserId and t.deletedAt is null")
+    List<Task> findAllByUserIdBetween(@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId);
+
+    // 일정 펼치기 배치용 - 삭제되지 않은 task를 id 순으로 limit 건씩
+    @Query("select t from Task t where t.id > :afterId and t.deletedAt is null order by t.id")
+    List<Task> findActiveAfter(@Param("afterId") long afterId, Limit limit);
+
+    // 본인 task만 조회 - 소유자 확인을 쿼리 조건으로 처리
+    @Query("select t from Task t where t.id = :id and t.user.id = :userId and t.deletedAt is null")
+    Optional<Task> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("select count(t) > 0 from Task t where t.id = :id and t.user.id = :userId and t.deletedAt is null")
+    boolean existsByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 검색 색인 따라잡기 - 색인에 넣은 가장 큰 id 이후 생성된 task
+    @Query("select t from Task t where t.user.id = :userId and t.id > :afterId and t.deletedAt is null order by t.id")
+    List<Task> findActiveByUserIdAfter(@Param("userId") Long userId, @Param("afterId") long afterId);
+
+    // 검색 결과 중 아직 삭제되지 않은 task id (다른 인스턴스에서 삭제된 task 걸러내기)
+    @Query("select t.id from Task t where t.id in :ids and t.user.id = :userId and t.deletedAt is null")
+    List<Long> findActiveIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 본인 task 삭제 표시 (표시된 행 수 반환, 이미 삭제된 task는 0)
+    @Modifying
+    @Query("update Task t set t.deletedAt = :now " +
+            "where t.id = :taskId and t.user.id = :userId and t.deletedAt is null")
+    int softDeleteOwned(@Param("userId") Long userId, @Param("taskId") Long taskId, @Param("now") LocalDateTime now);
+
+    // purge 대상 - 삭제 표시된 지 오래된 task id
+    @Query("select t.id from Task t where t.deletedAt < :before order by t.deletedAt")
+    List<Long> findPurgeCandidates(@Param("before") LocalDateTime before, Limit limit);
+
+    // 자식 행(완료 기록, 아카이브, 알림)을 먼저 지운 뒤 호출
+    @Modifying
+    @Query("delete from Task t where t.id in :ids and t.deletedAt is not null")
+    int deleteTombstoned(@Param("ids") List<Long> ids);
+
+    interface ExportRow {
+        Long getTaskId();
+        String getTitle();
+        String getDescription();
+        TaskType getTaskType();
+        LocalDate getDueDate();
+        String getRecurrenceRule();
+        LocalDate getCompletionDate();
+    }
 }
@@ -1,12 +1,39 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // 중복가입 확인 및 로그인 시 사용자 조회
     Optional<User> findByEmail(String email);
+
+    // 이메일 필터 재구성용 - 엔티티 없이 이메일만 스트리밍 (트랜잭션 안에서 사용)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    // 이메일 필터 갱신용 - 마지막으로 반영한 id 이후 가입분 (다른 인스턴스 가입 반영)
+    @Query("select u.id as id, u.email as email from User u where u.id > :afterId order by u.id")
+    List<EmailRow> findEmailsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    long findMaxId();
+
+    interface EmailRow {
+        Long getId();
+        String getEmail();
+    }
 }
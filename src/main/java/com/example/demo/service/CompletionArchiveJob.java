@@ -0,0 +1,133 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.TaskCompletionArchive;
+import com.example.demo.repository.JobCheckpointRepository;
+import com.example.demo.repository.TaskCompletionArchiveRepository;
+import com.example.demo.repository.TaskCompletionRepository;
+import com.example.demo.repository.TaskCompletionRepository.ArchiveRow;
+import com.example.demo.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 오래된 완료 기록(task_completions)을 월별 아카이브로 옮기는 배치
+// - chunk 단위로 짧은 트랜잭션을 여러 번 (hot 테이블 락을 오래 잡지 않음)
+// - chunk마다 checkpoint 저장 -> 중단되어도 이어서 처리
+// - shard마다 한 인스턴스에서만 실행 (JobLockService, 같은 checkpoint를 동시에 옮기지 않도록)
+@Slf4j
+@Component
+public class CompletionArchiveJob {
+
+    private static final String JOB_NAME = "completion-archive";
+
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final TaskCompletionArchiveRepository archiveRepository;
+    private final TaskRepository taskRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+    private final JobLockService jobLockService;
+
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public CompletionArchiveJob(
+            TaskCompletionRepository taskCompletionRepository,
+            TaskCompletionArchiveRepository archiveRepository,
+            TaskRepository taskRepository,
+            JobCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            ShardExecutor shardExecutor,
+            JobLockService jobLockService,
+            @Value("${archive.enabled:true}") boolean enabled,
+            @Value("${archive.horizon-days:90}") int horizonDays,
+            @Value("${archive.chunk-size:500}") int chunkSize,
+            @Value("${archive.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.archiveRepository = archiveRepository;
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardExecutor = shardExecutor;
+        this.jobLockService = jobLockService;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    // 이 날짜 이전 기록은 아카이브에 있을 수 있음
+    public LocalDate horizon() {
+        return LocalDate.now().minusDays(horizonDays).withDayOfMonth(1);
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void run() {
+        if (!enabled) return;
+
+        LocalDate before = horizon();
+        // shard마다 따로 (checkpoint도 각 shard에 저장됨)
+        shardExecutor.forEachShard(() -> jobLockService.runLocked(JOB_NAME, () -> {
+            int archived = 0;
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                Integer processed = transactionTemplate.execute(status -> archiveChunk(before));
+                if (processed == null || processed == 0) break;
+                archived += processed;
+                if (!jobLockService.renew(JOB_NAME)) break;
+            }
+            log.info("완료 기록 아카이빙: {}건 (기준일 {} 이전)", archived, before);
+        }));
+    }
+
+    // 한 chunk = 한 트랜잭션, 처리한 행 수 반환 (0이면 이번 회차 끝)
+    private int archiveChunk(LocalDate before) {
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> checkpointRepository.save(new JobCheckpoint(JOB_NAME)));
+
+        List<ArchiveRow> rows = taskCompletionRepository.findArchiveCandidates(
+                checkpoint.getLastId(), before, Limit.of(chunkSize));
+
+        if (rows.isEmpty()) {
+            checkpoint.reset();
+            return 0;
+        }
+
+        // (taskId, 월) 별로 비트마스크 합치기
+        Map<Long, Map<LocalDate, Integer>> masks = new HashMap<>();
+        for (ArchiveRow row : rows) {
+            masks.computeIfAbsent(row.getTaskId(), k -> new HashMap<>())
+                    .merge(row.getCompletionDate().withDayOfMonth(1),
+                            TaskCompletionArchive.dayBit(row.getCompletionDate()), (a, b) -> a | b);
+        }
+
+        masks.forEach((taskId, byMonth) -> byMonth.forEach((month, mask) -> {
+            TaskCompletionArchive archive = archiveRepository.findByTaskIdAndArchiveMonth(taskId, month)
+                    .orElseGet(() -> archiveRepository.save(TaskCompletionArchive.builder()
+                            .task(taskRepository.getReferenceById(taskId))
+                            .archiveMonth(month)
+                            .build()));
+            archive.mark(mask);
+        }));
+
+        taskCompletionRepository.deleteAllByIdInBatch(rows.stream().map(ArchiveRow::getId).toList());
+
+        if (rows.size() < chunkSize) {
+            checkpoint.reset();
+        } else {
+            checkpoint.advance(rows.get(rows.size() - 1).getId());
+        }
+        return rows.size();
+    }
+}
@@ -4,24 +4,37 @@ import com.example.demo.domain.User;
 import com.example.demo.exception.CustomException;
 import com.example.demo.exception.ErrorCode;
 import com.example.demo.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    // 관리자 권한(/admin/**)을 줄 이메일 목록
+    private final Set<String> adminEmails;
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            RegisteredEmailFilter registeredEmailFilter,
+            @Value("${security.admin-emails:}") Set<String> adminEmails) {
+        this.userRepository = userRepository;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.adminEmails = adminEmails;
+    }
 
     // 이메일 로그인용
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        User user = registeredEmailFilter.findUser(email)
                 .orElseThrow(() -> new UsernameNotFoundException(ErrorCode.USER_NOT_FOUND.getMessage()));
 
         return createUserDetails(user);
@@ -39,7 +52,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getId().toString())
                 .password(user.getPassword())
-                .roles("USER")
+                .roles(adminEmails.contains(user.getEmail()) ? new String[]{"USER", "ADMIN"} : new String[]{"USER"})
                 .build();
     }
 }
@@ -0,0 +1,227 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardContext;
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.Task;
+import com.example.demo.dto.DailyDigest;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.repository.JobCheckpointRepository;
+import com.example.demo.repository.TaskCompletionRepository;
+import com.example.demo.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 모든 사용자의 하루 일정 요약을 만드는 배치 (getTaskSchedule과 같은 결과, 이메일 발송/캐시 미리 채우기용)
+// - 전체 사용자를 읽는 작업이라 기본 꺼짐 (digest.enabled), 실제 sink를 붙일 때만 켬
+// - task가 있는 사용자를 id 순으로 partition-size 명씩 잘라 파티션 하나를 쿼리 2번으로 조회 (사용자별 쿼리 X)
+// - 파티션 parallelism 개를 virtual thread에서 동시에 계산하고 sink에 chunk-size 건씩 전달
+// - 파티션 묶음(wave)이 다 끝날 때마다 checkpoint 저장 -> 중단되면 재시작 시 마지막 wave 다음부터 이어서
+// - 같은 wave 안에서 이미 전달된 사용자는 재개 시 한 번 더 전달될 수 있음 (at-least-once)
+// - shard마다 한 인스턴스에서만 실행 (JobLockService) -> lock을 잡은 뒤 checkpoint를 다시 읽으므로 먼저 끝낸 날짜는 건너뜀
+@Slf4j
+@Component
+public class DailyDigestJob {
+
+    private static final String JOB_NAME = "daily-digest";
+    // 그날 작업을 끝까지 마쳤다는 표시
+    private static final long DONE = Long.MAX_VALUE;
+
+    private final TaskRepository taskRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final List<DigestSink> sinks;
+    private final ShardExecutor shardExecutor;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final boolean enabled;
+    private final int partitionSize;
+    private final int parallelism;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DailyDigestJob(
+            TaskRepository taskRepository,
+            TaskCompletionRepository taskCompletionRepository,
+            JobCheckpointRepository checkpointRepository,
+            ObjectProvider<DigestSink> sinks,
+            ShardExecutor shardExecutor,
+            JobLockService jobLockService,
+            PlatformTransactionManager transactionManager,
+            @Value("${digest.enabled:false}") boolean enabled,
+            @Value("${digest.partition-size:500}") int partitionSize,
+            @Value("${digest.parallelism:4}") int parallelism,
+            @Value("${digest.chunk-size:200}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.sinks = sinks.orderedStream().toList();
+        this.shardExecutor = shardExecutor;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${digest.cron:0 0 5 * * *}")
+    public void run() {
+        run(LocalDate.now(), false);
+    }
+
+    // 재시작 시 오늘 끝나지 않은 작업이 있으면 이어서 (새로 시작하지는 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        if (!enabled) return;
+        LocalDate today = LocalDate.now();
+        Thread.ofVirtual().name("daily-digest-resume").start(() -> run(today, true));
+    }
+
+    // 처리한 사용자 수 반환
+    public int run(LocalDate date, boolean resumeOnly) {
+        if (!enabled || sinks.isEmpty()) return 0;
+        if (!running.compareAndSet(false, true)) {
+            log.warn("일일 요약이 이미 실행 중이라 건너뜀 ({})", date);
+            return 0;
+        }
+        int[] total = {0};
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            // shard마다 따로 (checkpoint도 각 shard에 저장됨), 다른 인스턴스가 처리 중이면 건너뜀
+            shardExecutor.forEachShard(() -> jobLockService.runLocked(JOB_NAME, () -> {
+                try {
+                    total[0] += runShard(pool, date, resumeOnly);
+                } catch (RuntimeException e) {
+                    log.error("일일 요약 중단 (shard {}, {}) - 다음 실행 때 checkpoint부터 이어서 처리",
+                            shardExecutor.currentShard(), date, e);
+                }
+            }));
+        } finally {
+            running.set(false);
+        }
+        return total[0];
+    }
+
+    private int runShard(ExecutorService pool, LocalDate date, boolean resumeOnly) {
+        String name = checkpointName(date);
+        JobCheckpoint checkpoint = transactionTemplate.execute(status ->
+                checkpointRepository.findById(name).orElse(null));
+        if (checkpoint == null) {
+            if (resumeOnly) return 0;
+            checkpoint = transactionTemplate.execute(status -> checkpointRepository.save(new JobCheckpoint(name)));
+        }
+        if (checkpoint.getLastId() == DONE) return 0;
+
+        int shardId = shardExecutor.currentShard();
+        long afterUserId = checkpoint.getLastId();
+        int users = 0;
+        while (true) {
+            // 1. 다음 wave의 사용자 id (인덱스만 읽음) -> partition-size 명씩 id 범위로 나눔
+            long cursor = afterUserId;
+            List<Long> ownerIds = readOnlyTransactionTemplate.execute(status ->
+                    taskRepository.findOwnerIdsAfter(cursor, Limit.of(partitionSize * parallelism)));
+            if (ownerIds == null || ownerIds.isEmpty()) break;
+
+            // 2. 파티션마다 virtual thread 하나 (DB 커넥션도 동시에 최대 parallelism 개)
+            List<Future<Integer>> partitions = new ArrayList<>();
+            for (int from = 0; from < ownerIds.size(); from += partitionSize) {
+                long fromUserId = ownerIds.get(from);
+                long toUserId = ownerIds.get(Math.min(from + partitionSize, ownerIds.size()) - 1);
+                partitions.add(pool.submit(() ->
+                        ShardContext.callOnShard(shardId, () -> processPartition(fromUserId, toUserId, date))));
+            }
+            users += await(partitions);
+
+            // 3. wave가 다 끝났을 때만 checkpoint 이동
+            afterUserId = ownerIds.get(ownerIds.size() - 1);
+            saveCheckpoint(name, afterUserId);
+            if (ownerIds.size() < partitionSize * parallelism) break;
+            // lock을 잃음 -> 가져간 인스턴스가 checkpoint부터 이어서 처리
+            if (!jobLockService.renew(JOB_NAME)) return users;
+        }
+
+        saveCheckpoint(name, DONE);
+        transactionTemplate.executeWithoutResult(status ->
+                checkpointRepository.findById(checkpointName(date.minusDays(1))).ifPresent(checkpointRepository::delete));
+        log.info("일일 요약 완료 ({}): 사용자 {}명", date, users);
+        return users;
+    }
+
+    // 사용자 id 범위 하나 = 읽기 전용 트랜잭션 하나 (task 전부 + 그날 완료 기록), 계산 후 sink로 전달
+    private int processPartition(long fromUserId, long toUserId, LocalDate date) {
+        List<DailyDigest> digests = readOnlyTransactionTemplate.execute(status -> {
+            Map<Long, List<Task>> tasksByUser = new TreeMap<>();
+            for (Task task : taskRepository.findAllByUserIdBetween(fromUserId, toUserId)) {
+                tasksByUser.computeIfAbsent(task.getUser().getId(), k -> new ArrayList<>()).add(task);
+            }
+            Set<Long> completedTaskIds = new HashSet<>(
+                    taskCompletionRepository.findCompletedTaskIdsForUsers(fromUserId, toUserId, date));
+
+            List<DailyDigest> result = new ArrayList<>(tasksByUser.size());
+            tasksByUser.forEach((userId, tasks) -> {
+                Map<String, List<TaskResponse>> schedule = TaskService.buildSchedule(tasks, completedTaskIds, date);
+                result.add(new DailyDigest(userId, date, schedule.get("today"), schedule.get("upcoming")));
+            });
+            return result;
+        });
+
+        // sink 전달은 트랜잭션 밖에서 (느린 sink가 커넥션을 잡고 있지 않도록)
+        for (int from = 0; from < digests.size(); from += chunkSize) {
+            List<DailyDigest> chunk = digests.subList(from, Math.min(from + chunkSize, digests.size()));
+            sinks.forEach(sink -> sink.write(chunk));
+        }
+        return digests.size();
+    }
+
+    private int await(List<Future<Integer>> partitions) {
+        int users = 0;
+        try {
+            for (Future<Integer> partition : partitions) {
+                users += partition.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            partitions.forEach(partition -> partition.cancel(true));
+            throw new IllegalStateException("일일 요약 중단됨", e);
+        } catch (ExecutionException e) {
+            partitions.forEach(partition -> partition.cancel(true));
+            throw new IllegalStateException("일일 요약 파티션 처리 실패", e.getCause());
+        }
+        return users;
+    }
+
+    private void saveCheckpoint(String name, long lastId) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(name)
+                .orElseGet(() -> checkpointRepository.save(new JobCheckpoint(name)))
+                .advance(lastId));
+    }
+
+    private static String checkpointName(LocalDate date) {
+        return JOB_NAME + ":" + date;
+    }
+}
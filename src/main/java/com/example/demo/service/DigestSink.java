@@ -0,0 +1,12 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DailyDigest;
+
+import java.util.List;
+
+// 일일 요약 전달 방식 (이메일, 캐시 미리 채우기 등) - 빈으로 등록된 sink 전부에 chunk 단위로 전달됨
+// 여러 파티션 스레드에서 동시에 호출되고, 중단 후 재개 시 같은 사용자가 다시 올 수 있음 (at-least-once)
+public interface DigestSink {
+
+    void write(List<DailyDigest> chunk);
+}
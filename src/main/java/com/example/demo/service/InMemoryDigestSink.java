@@ -0,0 +1,29 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DailyDigest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 테스트용 sink - 전달된 요약을 메모리에 쌓아둠 (digest.sink=memory)
+@Component
+@ConditionalOnProperty(name = "digest.sink", havingValue = "memory")
+public class InMemoryDigestSink implements DigestSink {
+
+    private final List<DailyDigest> written = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void write(List<DailyDigest> chunk) {
+        written.addAll(chunk);
+    }
+
+    public List<DailyDigest> getWritten() {
+        return List.copyOf(written);
+    }
+
+    public void clear() {
+        written.clear();
+    }
+}
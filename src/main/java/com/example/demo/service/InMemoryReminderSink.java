@@ -0,0 +1,29 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReminderNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 테스트용 sink - 전달된 알림을 메모리에 쌓아둠 (reminder.sink=memory)
+@Component
+@ConditionalOnProperty(name = "reminder.sink", havingValue = "memory")
+public class InMemoryReminderSink implements ReminderSink {
+
+    private final List<ReminderNotification> delivered = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(ReminderNotification notification) {
+        delivered.add(notification);
+    }
+
+    public List<ReminderNotification> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public void clear() {
+        delivered.clear();
+    }
+}
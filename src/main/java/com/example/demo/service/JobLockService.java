@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.JobLock;
+import com.example.demo.repository.JobLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 배치 작업을 여러 인스턴스 중 한 곳에서만 실행 (job_locks 조건부 update)
+// - 현재 shard의 job_locks에 기록 -> forEachShard 안에서 쓰면 shard마다 따로 잡힘
+// - lease 동안 유효, 오래 걸리는 작업은 chunk마다 renew()로 연장 (연장 실패 = 다른 인스턴스가 가져감 -> 중단)
+// - 인스턴스 간 시계 차이는 lease보다 충분히 작아야 함
+@Slf4j
+@Component
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lease;
+    // 이 인스턴스 식별자 (pid@host + 재시작마다 바뀌는 값)
+    private final String owner;
+
+    public JobLockService(
+            JobLockRepository jobLockRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${job-lock.lease:10m}") Duration lease) {
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lease = lease;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // lock을 잡은 경우에만 실행하고 끝나면 풂, 실행했으면 true
+    public boolean runLocked(String jobName, Runnable action) {
+        if (!tryLock(jobName)) {
+            log.debug("다른 인스턴스에서 실행 중이라 건너뜀: {}", jobName);
+            return false;
+        }
+        try {
+            action.run();
+            return true;
+        } finally {
+            unlock(jobName);
+        }
+    }
+
+    // 비어 있거나 만료됐으면 가져옴 (이미 내 것이면 연장)
+    public boolean tryLock(String jobName) {
+        createIfAbsent(jobName);
+        return acquire(jobName);
+    }
+
+    // 실행 중 lease 연장 - false면 lock을 잃었으므로 작업을 멈춰야 함
+    public boolean renew(String jobName) {
+        boolean renewed = acquire(jobName);
+        if (!renewed) log.warn("lock을 잃어서 작업 중단: {}", jobName);
+        return renewed;
+    }
+
+    public void unlock(String jobName) {
+        transactionTemplate.executeWithoutResult(status -> jobLockRepository.unlock(jobName, owner));
+    }
+
+    private boolean acquire(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+                jobLockRepository.tryLock(jobName, owner, now, now.plus(lease)));
+        return updated != null && updated == 1;
+    }
+
+    private void createIfAbsent(String jobName) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!jobLockRepository.existsById(jobName)) {
+                    jobLockRepository.saveAndFlush(new JobLock(jobName));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 만듦
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DailyDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기본 sink - 건수만 로그로 남김 (digest.sink=log, 동작 확인용)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "digest.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingDigestSink implements DigestSink {
+
+    @Override
+    public void write(List<DailyDigest> chunk) {
+        if (chunk.isEmpty()) return;
+        int today = chunk.stream().mapToInt(digest -> digest.today().size()).sum();
+        log.debug("일일 요약: 사용자 {}명 (id {}~{}), 오늘 일정 {}건", chunk.size(),
+                chunk.get(0).userId(), chunk.get(chunk.size() - 1).userId(), today);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReminderNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기본 sink - 로그만 남김 (reminder.sink=log)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminder.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void deliver(ReminderNotification notification) {
+        log.info("알림: user={} task={} '{}' ({})", notification.userId(), notification.taskId(),
+                notification.title(), notification.occurrenceDate());
+    }
+}
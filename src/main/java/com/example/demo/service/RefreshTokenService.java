@@ -0,0 +1,132 @@
+package com.example.demo.service;
+
+import com.example.demo.config.JwtTokenProvider;
+import com.example.demo.config.ShardContext;
+import com.example.demo.config.ShardDirectory;
+import com.example.demo.domain.RefreshToken;
+import com.example.demo.dto.AuthDto;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// refresh token 발급 / 회전 / 폐기
+// - 사용할 때마다 새 토큰으로 교체 (sliding session), 이전 토큰은 사용처리
+// - 이미 사용된 토큰이 다시 들어오면 탈취로 보고 같은 family 전체 폐기
+// - refresh_tokens는 global shard에만 있으므로 항상 global shard에서 (로그인 사용자 shard로 라우팅되지 않도록)
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long refreshValidityInMilliseconds;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.refresh-expiration}") long refreshValidityInMilliseconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
+    }
+
+    // 로그인 성공 시 access + refresh 발급 (새 family 시작)
+    @Transactional
+    public AuthDto.TokenResponse issue(Long userId) {
+        String refreshToken = ShardContext.callOnShard(ShardDirectory.GLOBAL_SHARD, () ->
+                saveNewToken(userId, UUID.randomUUID().toString()));
+        return new AuthDto.TokenResponse(jwtTokenProvider.createToken(userId), refreshToken);
+    }
+
+    // refresh token -> 새 access + refresh (비밀번호 검증 없음)
+    // 재사용 감지 시 family 폐기는 커밋되어야 하므로 CustomException에도 롤백하지 않음
+    @Transactional(noRollbackFor = CustomException.class)
+    public AuthDto.TokenResponse rotate(String rawToken) {
+        return ShardContext.callOnShard(ShardDirectory.GLOBAL_SHARD, () -> rotateOnGlobalShard(rawToken));
+    }
+
+    private AuthDto.TokenResponse rotateOnGlobalShard(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        if (current.isRevoked()) {
+            throw reuseDetected(current);
+        }
+
+        // 만료된 토큰은 사용처리하지 않고 거절 (사용처리부터 하면 만료 거절도 커밋되어 같은 토큰이 재사용으로 잡힘)
+        if (current.isExpired(LocalDateTime.now())) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 동시에 같은 토큰으로 요청이 오면 한 쪽만 성공
+        if (refreshTokenRepository.markUsed(current.getId()) == 0) {
+            throw reuseDetected(current);
+        }
+
+        Long userId = current.getUserId();
+        String refreshToken = saveNewToken(userId, current.getFamilyId());
+        return new AuthDto.TokenResponse(jwtTokenProvider.createToken(userId), refreshToken);
+    }
+
+    // 로그아웃 - 해당 로그인 세션의 토큰 전부 폐기
+    @Transactional
+    public void revoke(String rawToken) {
+        ShardContext.runOnShard(ShardDirectory.GLOBAL_SHARD, () -> refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId())));
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 0 4 * * *}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = ShardContext.callOnShard(ShardDirectory.GLOBAL_SHARD, () ->
+                refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.info("만료된 refresh token {}건 삭제", deleted);
+    }
+
+    private CustomException reuseDetected(RefreshToken token) {
+        log.warn("refresh token 재사용 감지 - userId: {}, family: {}", token.getUserId(), token.getFamilyId());
+        refreshTokenRepository.revokeFamily(token.getFamilyId());
+        return new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    private String saveNewToken(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshValidityInMilliseconds * 1_000_000))
+                .build());
+        return rawToken;
+    }
+
+    // 토큰 자체가 256bit 랜덤이라 salt 없는 SHA-256으로 충분 (인덱스 조회 가능해야 함)
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 가입된 이메일 Bloom filter
+// - 가입 시 add, 기동 시 / 주기적으로 users 테이블을 스트리밍해서 재구성
+// - 다른 인스턴스 가입분은 poll-interval마다 마지막으로 반영한 id 이후 행만 읽어서 추가 (id 인덱스 범위 조회)
+//   -> 다른 인스턴스에서 가입 직후 poll-interval 안에 이 인스턴스로 로그인하면 "없음"이 될 수 있음
+// - findUser()는 필터가 준비된 뒤에는 "없음"이면 DB를 조회하지 않음 (준비 전에는 항상 DB)
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    // identity id는 커밋 순서와 다를 수 있어서 (늦게 커밋된 작은 id) 마지막 위치보다 이만큼 앞에서부터 다시 읽음
+    private static final int POLL_OVERLAP = 100;
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;   // 조회용 (null이면 아직 준비 안 됨)
+    private volatile BloomFilter building;  // 재구성 중인 필터 (그 사이 가입분도 같이 넣어줌)
+    private volatile long lastPolledId;     // 필터에 반영한 마지막 users.id
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            @Value("${auth.email-filter.enabled:true}") boolean enabled,
+            @Value("${auth.email-filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // 준비 전이거나 비활성화 상태면 항상 true (DB 조회로 넘김)
+    public boolean mightBeRegistered(String email) {
+        BloomFilter filter = current;
+        if (!enabled || filter == null) return true;
+        return filter.mightContain(email);
+    }
+
+    // 로그인용 사용자 조회 - 필터에 없으면 DB 조회 없이 바로 없음
+    public Optional<User> findUser(String email) {
+        if (!mightBeRegistered(email)) return Optional.empty();
+        return userRepository.findByEmail(email);
+    }
+
+    public void add(String email) {
+        BloomFilter filter = current;
+        if (filter != null) filter.add(email);
+
+        BloomFilter next = building;
+        if (next != null) next.add(email);
+    }
+
+    // readOnly로 두면 replica에서 읽어서 지연 중 가입분이 빠지므로 primary에서 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${auth.email-filter.rebuild-interval:600000}",
+            fixedDelayString = "${auth.email-filter.rebuild-interval:600000}")
+    @Transactional
+    public void rebuild() {
+        if (!enabled) return;
+
+        // 스트리밍 전에 읽어둔 위치부터 poll -> 그 사이 가입분도 빠지지 않음
+        long maxId = userRepository.findMaxId();
+        long count = userRepository.count();
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, count * 2), falsePositiveRate);
+        building = next;
+
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(next::add);
+            current = next;
+            lastPolledId = maxId;
+            log.info("가입 이메일 필터 재구성 완료: {}건", count);
+        } finally {
+            building = null;
+        }
+    }
+
+    // 다른 인스턴스 가입분 반영 (재구성 전에는 findUser가 DB를 보므로 할 일 없음)
+    @Scheduled(initialDelayString = "${auth.email-filter.poll-interval:5000}",
+            fixedDelayString = "${auth.email-filter.poll-interval:5000}")
+    @Transactional
+    public void pollNewUsers() {
+        if (!enabled || current == null) return;
+
+        long afterId = Math.max(0, lastPolledId - POLL_OVERLAP);
+        while (true) {
+            List<UserRepository.EmailRow> rows = userRepository.findEmailsAfter(afterId, Limit.of(POLL_BATCH_SIZE));
+            rows.forEach(row -> add(row.getEmail()));
+            if (!rows.isEmpty()) {
+                afterId = rows.get(rows.size() - 1).getId();
+                lastPolledId = Math.max(lastPolledId, afterId);
+            }
+            if (rows.size() < POLL_BATCH_SIZE) break;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardContext;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskReminder;
+import com.example.demo.dto.ReminderNotification;
+import com.example.demo.repository.TaskReminderRepository;
+import com.example.demo.repository.TaskReminderRepository.ReminderRow;
+import com.example.demo.util.RecurrenceUtils;
+import com.example.demo.util.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.demo.util.TransactionUtils.afterCommit;
+
+// task 알림
+// - 알림 설정과 다음 알림 시각은 task_reminders에 저장 (재시작해도 유지)
+// - 앞으로 window 동안 울릴 알림만 nextFireAt 인덱스로 조회해서 timing wheel에 올림 (task 수와 무관하게 메모리 일정)
+// - 알림을 보내면 다음 일정으로 nextFireAt을 옮기고, 그 시각이 이미 올려둔 구간 안이면 바로 wheel에 추가
+// - 다른 인스턴스에서 만든 task의 알림은 여기 wheel에 직접 들어오지 않으므로
+//   catch-up-interval마다 이미 올려둔 구간(+ max-lateness)을 다시 조회해서 wheel에 없는 것만 추가
+// - 등록 시 오늘 이후 첫 일정의 알림 시각이 이미 지났으면 (마감 2일 전 등록, 3일 전 알림 등) 바로 울림
+// - 재시작 동안 놓친 알림은 max-lateness 이내면 늦게라도 보내고, 그보다 오래된 건 건너뜀
+// - 전달은 at-least-once (전달 후 nextFireAt 저장 전에 죽으면 재시작 시 한 번 더 나갈 수 있음)
+// 여러 인스턴스에서 띄우면 알림이 중복되므로 reminder.enabled는 한 인스턴스에서만 켤 것 (기본 꺼짐)
+@Slf4j
+@Service
+public class ReminderService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final TaskReminderRepository reminderRepository;
+    private final List<ReminderSink> sinks;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long tickMillis;
+    private final Duration window;
+    private final Duration maxLateness;
+    private final int loadBatchSize;
+    private final long catchUpIntervalMillis;
+
+    private final TimingWheel<Long, Pending> wheel;   // key = taskId (task당 알림 하나)
+    private ScheduledExecutorService ticker;
+    private volatile LocalDateTime loadedUntil;       // 이 시각 전에 울릴 알림은 모두 wheel에 있음 (null = 아직 시작 전)
+    private long lastCatchUpMillis;                   // ticker 스레드에서만 사용
+
+    public ReminderService(
+            TaskReminderRepository reminderRepository,
+            ObjectProvider<ReminderSink> sinks,
+            ShardExecutor shardExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${reminder.enabled:false}") boolean enabled,
+            @Value("${reminder.tick:1s}") Duration tick,
+            @Value("${reminder.window:10m}") Duration window,
+            @Value("${reminder.max-lateness:1h}") Duration maxLateness,
+            @Value("${reminder.load-batch-size:1000}") int loadBatchSize,
+            @Value("${reminder.catch-up-interval:30s}") Duration catchUpInterval) {
+        this.reminderRepository = reminderRepository;
+        this.sinks = sinks.orderedStream().toList();
+        this.shardExecutor = shardExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.tickMillis = tick.toMillis();
+        this.window = window;
+        this.maxLateness = maxLateness;
+        this.loadBatchSize = loadBatchSize;
+        this.catchUpIntervalMillis = catchUpInterval.toMillis();
+        // tick 64개씩 3단계 -> 1초 tick 기준 약 72시간까지 wheel 안에서 처리
+        this.wheel = new TimingWheel<>(tickMillis, 64, 3, System.currentTimeMillis());
+    }
+
+    // task 생성 시 알림 등록 (createTask 트랜잭션 안에서 호출)
+    public void register(Task task, LocalTime reminderTime, int daysBefore) {
+        TaskReminder reminder = TaskReminder.builder()
+                .task(task)
+                .reminderTime(reminderTime)
+                .daysBefore(daysBefore)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        reminder.scheduleFor(RecurrenceUtils.nextOccurrence(task, now.toLocalDate().minusDays(1)), now);
+        reminderRepository.save(reminder);
+
+        if (reminder.getNextFireAt() != null) {
+            Pending pending = new Pending(reminder.getId(), shardExecutor.shardOf(task.getUser().getId()),
+                    new ReminderNotification(task.getId(), task.getUser().getId(), task.getTitle(),
+                            reminder.getOccurrenceDate(), reminder.getNextFireAt()));
+            afterCommit(() -> offer(pending));
+        }
+    }
+
+    // task 삭제 시 알림 제거 (deleteTask 트랜잭션 안에서 호출)
+    public void unregister(Long userId, Long taskId) {
+        reminderRepository.deleteAllOwnedByTask(userId, taskId);
+        afterCommit(() -> wheel.remove(taskId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || ticker != null) return;
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "reminder-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, 0, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (ticker != null) ticker.shutdownNow();
+    }
+
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    // ticker 스레드에서만 실행
+    private void tick() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long nowMillis = System.currentTimeMillis();
+            if (loadedUntil == null) {
+                skipMissed(now.minus(maxLateness));
+                loadWindow(now.minus(maxLateness), now.plus(window));
+                lastCatchUpMillis = nowMillis;
+            } else if (!now.plus(window.dividedBy(2)).isBefore(loadedUntil)) {
+                // 다음 구간 + 그 사이 놓친 것까지 (하한 없이 max-lateness 이내 전부)
+                loadWindow(now.minus(maxLateness), now.plus(window));
+                lastCatchUpMillis = nowMillis;
+            } else if (nowMillis - lastCatchUpMillis >= catchUpIntervalMillis) {
+                loadRange(now.minus(maxLateness), loadedUntil);
+                lastCatchUpMillis = nowMillis;
+            }
+
+            for (Pending pending : wheel.advance(System.currentTimeMillis())) {
+                fire(pending);
+            }
+        } catch (Exception e) {
+            log.error("알림 처리 실패", e);
+        }
+    }
+
+    // [from, to) 구간 알림을 wheel에 올림
+    // loadedUntil을 먼저 옮겨야 조회와 동시에 커밋된 새 task가 빠지지 않음 (register 쪽에서 직접 추가)
+    private void loadWindow(LocalDateTime from, LocalDateTime to) {
+        loadedUntil = to;
+        loadRange(from, to);
+    }
+
+    // 이미 wheel에 있는 알림은 건너뜀 (시각이 지난 알림을 다시 올리면 두 번 나감)
+    private void loadRange(LocalDateTime from, LocalDateTime to) {
+        shardExecutor.forEachShard(() -> {
+            int shardId = shardExecutor.currentShard();
+            long afterId = 0;
+            List<ReminderRow> rows;
+            do {
+                rows = reminderRepository.findDueBetween(from, to, afterId, Limit.of(loadBatchSize));
+                for (ReminderRow row : rows) {
+                    afterId = row.getId();
+                    if (wheel.contains(row.getTaskId())) continue;
+                    offer(new Pending(row.getId(), shardId, new ReminderNotification(row.getTaskId(),
+                            row.getUserId(), row.getTitle(), row.getOccurrenceDate(), row.getNextFireAt())));
+                }
+            } while (rows.size() == loadBatchSize);
+        });
+    }
+
+    // 너무 오래전에 울렸어야 할 알림은 보내지 않고 다음 일정으로 넘김 (서버가 오래 꺼져있던 경우)
+    private void skipMissed(LocalDateTime before) {
+        shardExecutor.forEachShard(() -> {
+            int shardId = shardExecutor.currentShard();
+            List<ReminderRow> rows;
+            do {
+                rows = reminderRepository.findDueBetween(BEGINNING, before, 0, Limit.of(loadBatchSize));
+                rows.forEach(row -> reschedule(row.getId(), shardId, row.getOccurrenceDate(), before));
+            } while (rows.size() == loadBatchSize);
+        });
+    }
+
+    private void offer(Pending pending) {
+        LocalDateTime until = loadedUntil;
+        if (until == null || !pending.notification().fireAt().isBefore(until)) return; // 다음 구간 로딩 때 올라옴
+
+        long fireAtMillis = pending.notification().fireAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!wheel.add(pending.notification().taskId(), fireAtMillis, pending)) {
+            ticker.execute(() -> fire(pending)); // 이미 시각이 지남
+        }
+    }
+
+    private void fire(Pending pending) {
+        for (ReminderSink sink : sinks) {
+            try {
+                sink.deliver(pending.notification());
+            } catch (Exception e) {
+                log.warn("알림 전달 실패 ({}): task={}", sink.getClass().getSimpleName(), pending.notification().taskId(), e);
+            }
+        }
+        reschedule(pending.reminderId(), pending.shardId(), pending.notification().occurrenceDate(), LocalDateTime.now());
+    }
+
+    // occurrence 다음 일정 중 알림 시각이 notBefore 이후인 것으로 nextFireAt 이동 (반복 없으면 null)
+    private void reschedule(long reminderId, int shardId, LocalDate occurrence, LocalDateTime notBefore) {
+        ShardContext.runOnShard(shardId, () -> transactionTemplate.executeWithoutResult(status ->
+                reminderRepository.findById(reminderId).ifPresent(reminder -> {
+                    // 그 사이 다른 경로로 이미 옮겨졌으면 무시
+                    if (!occurrence.equals(reminder.getOccurrenceDate())) return;
+
+                    Task task = reminder.getTask();
+                    LocalDate next = RecurrenceUtils.nextOccurrence(task, occurrence);
+                    while (next != null && reminder.fireTimeFor(next).isBefore(notBefore)) {
+                        next = RecurrenceUtils.nextOccurrence(task, next);
+                    }
+                    reminder.scheduleFor(next);
+
+                    if (next != null) {
+                        Pending pending = new Pending(reminderId, shardId, new ReminderNotification(task.getId(),
+                                task.getUser().getId(), task.getTitle(), next, reminder.getNextFireAt()));
+                        afterCommit(() -> offer(pending));
+                    }
+                })));
+    }
+
+    private record Pending(long reminderId, int shardId, ReminderNotification notification) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReminderNotification;
+
+// 알림 전달 방식 (푸시, 이메일 등) - 빈으로 등록된 sink 전부에 전달됨
+public interface ReminderSink {
+
+    void deliver(ReminderNotification notification);
+}
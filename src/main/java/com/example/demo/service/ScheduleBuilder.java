@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskType;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.util.RecurrenceUtils;
+import com.example.demo.util.TopK;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.service.TaskService.UPCOMING_LIMIT;
+
+// 한 사용자의 하루 일정(오늘 / 다가오는 일정)을 task 하나씩 넣어서 계산
+// 전체 계산(buildSchedule), 스트리밍, 펼친 일정(task_agenda), reactive가 모두 같은 분류 규칙을 쓰도록 여기 한 곳에 둠
+// - 오늘: RecurrenceUtils.isScheduledForDate
+// - 다가오는 일정: 오늘 일정이 아닌 task의 다음 날짜 -> 가까운 순(날짜, id) UPCOMING_LIMIT개만 유지
+public class ScheduleBuilder {
+
+    private final LocalDate date;
+    private final List<TaskResponse> today = new ArrayList<>();
+    private final TopK<TaskResponse> upcoming = new TopK<>(UPCOMING_LIMIT, TaskResponse.UPCOMING_ORDER);
+
+    public ScheduleBuilder(LocalDate date) {
+        this.date = date;
+    }
+
+    // 오늘 일정이면 오늘 목록에, 아니면 다가오는 일정 후보로
+    public void offer(Task task, boolean completed) {
+        TaskResponse response = classify(task, completed);
+        if (response != null) today.add(response);
+    }
+
+    // 엔티티 없이 컬럼 값으로 (reactive), response는 완료 여부까지 채운 응답
+    public void offer(TaskType taskType, LocalDate dueDate, String recurrenceRule, LocalDateTime createdAt,
+                      TaskResponse response) {
+        if (classify(taskType, dueDate, recurrenceRule, createdAt, response) != null) today.add(response);
+    }
+
+    // 스트리밍용 - 오늘 일정이면 응답을 돌려주고 목록에는 모으지 않음 (바로 출력), 아니면 다가오는 일정 후보로 넣고 null
+    public TaskResponse classify(Task task, boolean completed) {
+        return classify(task.getTaskType(), task.getDueDate(), task.getRecurrenceRule(), task.getCreatedAt(),
+                TaskResponse.from(task, completed));
+    }
+
+    private TaskResponse classify(TaskType taskType, LocalDate dueDate, String recurrenceRule, LocalDateTime createdAt,
+                                  TaskResponse response) {
+        if (RecurrenceUtils.isScheduledForDate(taskType, dueDate, recurrenceRule, createdAt, date, response.isCompleted())) {
+            return response;
+        }
+        // 일회성은 미래 마감일, 반복은 다음 반복 날짜
+        LocalDate next = RecurrenceUtils.nextOccurrence(taskType, dueDate, recurrenceRule, createdAt, date);
+        if (next != null) {
+            upcoming.offer(response.toBuilder().isCompleted(false).nextDate(next).build());
+        }
+        return null;
+    }
+
+    // 다음 날짜를 이미 알고 있는 task (펼친 일정), next가 null이면 다가오는 일정 없음
+    public void offerUpcoming(Task task, LocalDate next) {
+        if (next != null) {
+            upcoming.offer(TaskResponse.upcoming(task, next));
+        }
+    }
+
+    public int upcomingSize() {
+        return upcoming.size();
+    }
+
+    public List<TaskResponse> upcoming() {
+        return upcoming.toSortedList();
+    }
+
+    public Map<String, List<TaskResponse>> build() {
+        return Map.of("today", today, "upcoming", upcoming());
+    }
+}
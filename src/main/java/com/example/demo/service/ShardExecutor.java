@@ -0,0 +1,44 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardContext;
+import com.example.demo.config.ShardDirectory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 배치 작업을 shard마다 한 번씩 실행 (sharding 비활성이면 그냥 한 번)
+@Component
+public class ShardExecutor {
+
+    private final ShardDirectory shardDirectory;
+
+    public ShardExecutor(ObjectProvider<ShardDirectory> shardDirectory) {
+        this.shardDirectory = shardDirectory.getIfAvailable();
+    }
+
+    public List<Integer> shardIds() {
+        return shardDirectory != null ? List.copyOf(shardDirectory.shardIds()) : List.of(ShardDirectory.GLOBAL_SHARD);
+    }
+
+    // 사용자 데이터가 있는 shard (sharding 비활성이면 항상 0)
+    public int shardOf(long userId) {
+        return shardDirectory != null ? shardDirectory.shardOf(userId) : ShardDirectory.GLOBAL_SHARD;
+    }
+
+    // forEachShard 안에서 지금 처리 중인 shard
+    public int currentShard() {
+        Integer current = ShardContext.current();
+        return current != null ? current : ShardDirectory.GLOBAL_SHARD;
+    }
+
+    public void forEachShard(Runnable action) {
+        if (shardDirectory == null) {
+            action.run();
+            return;
+        }
+        for (int shardId : shardDirectory.shardIds()) {
+            ShardContext.runOnShard(shardId, action);
+        }
+    }
+}
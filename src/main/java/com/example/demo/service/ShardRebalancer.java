@@ -0,0 +1,163 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardDirectory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+// 사용자 데이터를 다른 shard로 옮기는 도구 (서비스 중단 없이 사용자 단위로)
+// 1. 이동 표시 (user_shard_assignments.moving 조건부 update -> 여러 인스턴스에서 같은 사용자를 동시에 옮기지 않음)
+//    -> 해당 사용자 쓰기 요청 차단, 진행 중 요청이 끝나도록 drain-wait 만큼 대기
+// 2. 대상 shard에 복사 (id 그대로 - shard별 id-offset 덕분에 충돌 없음)
+//    원본은 커서로 읽고 대상에는 copy-batch-size 행씩 넣음, 이전 시도에서 남은 대상 행은 먼저 지움
+// 3. 배정 변경 -> 이후 요청은 대상 shard로
+// 4. 다른 인스턴스가 새 배정을 읽을 때까지 drain-wait 만큼 더 대기 (그 전까지는 원래 shard를 읽음)
+// 5. 원래 shard 데이터 삭제 후 쓰기 차단 해제
+// drain-wait은 directory-refresh-interval보다 길어야 함
+// 3과 5 사이에 실패하면 원래 shard에 고아 데이터가 남지만 라우팅에는 영향 없음
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    // 사용자 데이터 테이블 (부모 -> 자식 순서, 삭제는 역순)
+    private static final List<UserTable> USER_TABLES = List.of(
+            new UserTable("tasks", "user_id = ?"),
+            new UserTable("task_completions", "task_id in (select id from tasks where user_id = ?)"),
+            new UserTable("task_completion_archives", "task_id in (select id from tasks where user_id = ?)"),
+            new UserTable("task_reminders", "task_id in (select id from tasks where user_id = ?)"),
+            new UserTable("task_agenda", "user_id = ?"));
+
+    private final ShardDirectory shardDirectory;
+    private final Duration drainWait;
+    private final int copyBatchSize;
+
+    public ShardRebalancer(
+            ShardDirectory shardDirectory,
+            @Value("${sharding.rebalance.drain-wait:6s}") Duration drainWait,
+            @Value("${sharding.rebalance.copy-batch-size:1000}") int copyBatchSize) {
+        this.shardDirectory = shardDirectory;
+        this.drainWait = drainWait;
+        this.copyBatchSize = copyBatchSize;
+    }
+
+    // ring 위치와 다른 shard에 있는 사용자들을 최대 limit명 이동, 이동한 사용자 수 반환
+    public int rebalance(int limit) {
+        int moved = 0;
+        for (Long userId : shardDirectory.findMisplacedUsers(limit)) {
+            if (moveUser(userId, shardDirectory.ringShardOf(userId))) moved++;
+        }
+        return moved;
+    }
+
+    // 이미 대상 shard에 있거나 다른 곳에서 옮기는 중이면 false
+    public boolean moveUser(long userId, int targetShard) {
+        shardDirectory.dataSource(targetShard);
+        if (!shardDirectory.claimMove(userId)) {
+            log.info("사용자 {}는 다른 곳에서 이동 중이라 건너뜀", userId);
+            return false;
+        }
+        try {
+            // 다른 인스턴스가 방금 옮겼을 수 있으므로 캐시가 아닌 배정 기록 기준
+            int sourceShard = shardDirectory.assignedShardOf(userId);
+            if (sourceShard == targetShard) return false;
+
+            DataSource source = shardDirectory.dataSource(sourceShard);
+            DataSource target = shardDirectory.dataSource(targetShard);
+            Thread.sleep(drainWait.toMillis());
+
+            copyUser(source, target, userId);
+            shardDirectory.reassign(userId, targetShard);
+
+            // 다른 인스턴스가 refresh로 새 배정을 읽기 전에는 원래 shard를 읽으므로 바로 지우지 않음
+            Thread.sleep(drainWait.toMillis());
+
+            new TransactionTemplate(new DataSourceTransactionManager(source)).executeWithoutResult(status -> {
+                JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+                deleteUserRows(sourceJdbc, userId);
+                if (sourceShard != ShardDirectory.GLOBAL_SHARD) {
+                    sourceJdbc.update("delete from users where id = ?", userId);
+                }
+            });
+
+            log.info("사용자 {} 이동 완료: shard {} -> {}", userId, sourceShard, targetShard);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 이동이 중단되었습니다: " + userId, e);
+        } finally {
+            shardDirectory.markMoving(userId, false);
+        }
+    }
+
+    // 원본은 읽기 전용 트랜잭션 하나에서 커서로 읽고, 대상에는 batch 단위로 바로 커밋
+    // 중간에 실패해도 라우팅은 아직 원본이므로 다음 시도에서 대상 행을 지우고 다시 복사
+    private void copyUser(DataSource source, DataSource target, long userId) {
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        deleteUserRows(targetJdbc, userId);
+
+        TransactionTemplate sourceTx = new TransactionTemplate(new DataSourceTransactionManager(source));
+        sourceTx.setReadOnly(true);
+        sourceTx.executeWithoutResult(status -> {
+            JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+            sourceJdbc.setFetchSize(copyBatchSize);
+            Integer exists = targetJdbc.queryForObject("select count(*) from users where id = ?", Integer.class, userId);
+            if (exists == null || exists == 0) {
+                copyRows(sourceJdbc, targetJdbc, new UserTable("users", "id = ?"), userId);
+            }
+            USER_TABLES.forEach(table -> copyRows(sourceJdbc, targetJdbc, table, userId));
+        });
+    }
+
+    // 자식 -> 부모 순서로 (users 행은 남김)
+    private static void deleteUserRows(JdbcTemplate jdbc, long userId) {
+        List<UserTable> reversed = new ArrayList<>(USER_TABLES);
+        Collections.reverse(reversed);
+        reversed.forEach(table -> jdbc.update("delete from " + table.name() + " where " + table.where(), userId));
+    }
+
+    // 컬럼 목록은 원본 결과셋 메타데이터 기준 (엔티티가 바뀌어도 그대로 동작)
+    private void copyRows(JdbcTemplate sourceJdbc, JdbcTemplate targetJdbc, UserTable table, long userId) {
+        List<Object[]> batch = new ArrayList<>(copyBatchSize);
+        String[] insertSql = new String[1];
+        sourceJdbc.query("select * from " + table.name() + " where " + table.where(), rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columnCount = meta.getColumnCount();
+            if (insertSql[0] == null) {
+                StringJoiner columns = new StringJoiner(", ");
+                StringJoiner params = new StringJoiner(", ");
+                for (int i = 1; i <= columnCount; i++) {
+                    columns.add(meta.getColumnName(i));
+                    params.add("?");
+                }
+                insertSql[0] = "insert into " + table.name() + " (" + columns + ") values (" + params + ")";
+            }
+            Object[] row = new Object[columnCount];
+            for (int i = 1; i <= columnCount; i++) {
+                row[i - 1] = rs.getObject(i);
+            }
+            batch.add(row);
+            if (batch.size() == copyBatchSize) {
+                targetJdbc.batchUpdate(insertSql[0], batch);
+                batch.clear();
+            }
+        }, userId);
+
+        if (!batch.isEmpty()) targetJdbc.batchUpdate(insertSql[0], batch);
+    }
+
+    private record UserTable(String name, String where) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.Task;
+import com.example.demo.repository.JobCheckpointRepository;
+import com.example.demo.repository.TaskAgendaRepository;
+import com.example.demo.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// task_agenda 펼친 범위를 매일 앞으로 미는 배치
+// - 이미 펼친 날짜 다음 ~ (오늘 + window-days) 만 새로 펼침, 끊겼거나(범위가 오늘 이전) 처음이면 전체 범위를 다시 펼침
+// - 기동 시에는 범위가 이어져 있어도 전체를 다시 펼침 (agenda.enabled는 재시작해야 바뀌므로, 꺼져 있던 동안 생성/삭제가
+//   빠졌을 수 있음) - chunk 단위로 지우고 넣어서 그동안에도 기존 범위로 조회 가능
+// - task를 id 순으로 chunk-size 건씩, chunk마다 해당 범위 행을 지우고 다시 넣음 (중간에 죽어도 다시 돌리면 그대로)
+// - 다 펼친 뒤에만 checkpoint(= 펼친 마지막 날짜)를 옮기므로 그 전까지 조회는 기존 범위 / 전체 계산을 씀
+// - 오늘 이전 행은 prune-batch-size 건씩 삭제
+// - shard마다 한 인스턴스에서만 실행 (JobLockService, 같은 범위를 동시에 지우고 넣지 않도록)
+@Slf4j
+@Component
+public class TaskAgendaJob {
+
+    private static final String INSERT_SQL = "insert into task_agenda (user_id, agenda_date, task_id) values (?, ?, ?)";
+
+    private final TaskAgendaService agendaService;
+    private final TaskAgendaRepository agendaRepository;
+    private final TaskRepository taskRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+    private final JobLockService jobLockService;
+
+    private final int chunkSize;
+    private final int pruneBatchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TaskAgendaJob(
+            TaskAgendaService agendaService,
+            TaskAgendaRepository agendaRepository,
+            TaskRepository taskRepository,
+            JobCheckpointRepository checkpointRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ShardExecutor shardExecutor,
+            JobLockService jobLockService,
+            @Value("${agenda.chunk-size:500}") int chunkSize,
+            @Value("${agenda.prune-batch-size:1000}") int pruneBatchSize) {
+        this.agendaService = agendaService;
+        this.agendaRepository = agendaRepository;
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardExecutor = shardExecutor;
+        this.jobLockService = jobLockService;
+        this.chunkSize = chunkSize;
+        this.pruneBatchSize = pruneBatchSize;
+    }
+
+    // 기동 시에도 한 번 (꺼져 있다 켜졌거나 며칠 멈춰 있었으면 여기서 다시 펼침)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!agendaService.isEnabled()) return;
+        Thread.ofVirtual().name("task-agenda-roll").start(() -> run(true));
+    }
+
+    @Scheduled(cron = "${agenda.cron:0 5 0 * * *}")
+    public void run() {
+        run(false);
+    }
+
+    // full = 이어서 펼칠 수 있어도 오늘부터 전체 범위를 다시 펼침
+    void run(boolean full) {
+        if (!agendaService.isEnabled()) return;
+        if (!running.compareAndSet(false, true)) return;
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate end = agendaService.windowEnd(today);
+            // shard마다 따로 (checkpoint도 각 shard에 저장됨)
+            // 다른 인스턴스가 펼치는 중이면 건너뜀 (범위는 refreshCoverage가 checkpoint에서 다시 읽음)
+            shardExecutor.forEachShard(() ->
+                    jobLockService.runLocked(TaskAgendaService.JOB_NAME, () -> rollShard(today, end, full)));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void rollShard(LocalDate today, LocalDate end, boolean full) {
+        int shardId = shardExecutor.currentShard();
+        JobCheckpoint checkpoint = transactionTemplate.execute(status -> checkpointRepository
+                .findById(TaskAgendaService.JOB_NAME)
+                .orElseGet(() -> checkpointRepository.save(new JobCheckpoint(TaskAgendaService.JOB_NAME))));
+        LocalDate covered = checkpoint.getLastId() == 0 ? null : LocalDate.ofEpochDay(checkpoint.getLastId());
+
+        LocalDate from;
+        if (covered == null || covered.isBefore(today)) {
+            // 처음이거나 끊김 -> 다 펼칠 때까지 조회에 쓰지 않음
+            saveCheckpoint(0);
+            agendaService.updateCoverage(shardId, null);
+            from = today;
+        } else {
+            // 전체 다시 펼치기는 범위를 유지한 채로 (task마다 같은 트랜잭션에서 지우고 넣음)
+            from = full ? today : covered.plusDays(1);
+        }
+
+        if (!from.isAfter(end)) {
+            int rows = materialize(from, end);
+            if (rows < 0) return; // lock을 잃음 - checkpoint를 옮기지 않고 다음 회차에 다시
+            saveCheckpoint(end.toEpochDay());
+            log.info("일정 펼치기: {} ~ {}, {}행", from, end, rows);
+        }
+        agendaService.updateCoverage(shardId, end);
+
+        int pruned = prune(today);
+        if (pruned > 0) {
+            log.info("지난 일정 정리: {}행", pruned);
+        }
+    }
+
+    // 삭제되지 않은 task 전부를 [from, to]에 펼침, 넣은 행 수 반환 (도중에 lock을 잃으면 -1)
+    private int materialize(LocalDate from, LocalDate to) {
+        long afterId = 0;
+        int inserted = 0;
+        while (true) {
+            long cursor = afterId;
+            long[] result = transactionTemplate.execute(status -> {
+                List<Task> tasks = taskRepository.findActiveAfter(cursor, Limit.of(chunkSize));
+                if (tasks.isEmpty()) return null;
+
+                List<Long> taskIds = tasks.stream().map(Task::getId).toList();
+                agendaRepository.deleteAllByTaskIdsBetween(taskIds, from, to);
+
+                List<Object[]> rows = new ArrayList<>();
+                for (Task task : tasks) {
+                    Long userId = task.getUser().getId();
+                    for (LocalDate date : TaskAgendaService.agendaDates(task, from, to)) {
+                        rows.add(new Object[]{userId, Date.valueOf(date), task.getId()});
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                }
+                return new long[]{taskIds.get(taskIds.size() - 1), rows.size(), tasks.size()};
+            });
+            if (result == null) break;
+            afterId = result[0];
+            inserted += (int) result[1];
+            if (result[2] < chunkSize) break;
+            if (!jobLockService.renew(TaskAgendaService.JOB_NAME)) return -1;
+        }
+        return inserted;
+    }
+
+    private int prune(LocalDate before) {
+        int pruned = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = agendaRepository.findIdsBefore(before, Limit.of(pruneBatchSize));
+                if (!ids.isEmpty()) agendaRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            if (deleted == null || deleted == 0) break;
+            pruned += deleted;
+            if (deleted < pruneBatchSize) break;
+        }
+        return pruned;
+    }
+
+    private void saveCheckpoint(long lastId) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(TaskAgendaService.JOB_NAME)
+                .orElseGet(() -> checkpointRepository.save(new JobCheckpoint(TaskAgendaService.JOB_NAME)))
+                .advance(lastId));
+    }
+}
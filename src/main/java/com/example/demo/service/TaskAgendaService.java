@@ -0,0 +1,182 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskAgendaEntry;
+import com.example.demo.domain.TaskType;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.repository.JobCheckpointRepository;
+import com.example.demo.repository.TaskAgendaRepository;
+import com.example.demo.repository.TaskAgendaRepository.DayRow;
+import com.example.demo.repository.TaskAgendaRepository.UpcomingRow;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.util.RecurrenceUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.demo.service.TaskService.UPCOMING_LIMIT;
+
+// 미리 펼쳐 둔 일정(task_agenda)으로 오늘 일정 조회 (agenda.enabled=true)
+// - 펼친 범위: 오늘 ~ window-days 뒤 (TaskAgendaJob이 매일 앞으로 밀고, task 생성/삭제 시 같은 트랜잭션에서 갱신)
+// - shard별로 어디까지 펼쳤는지는 job_checkpoints('task-agenda', epoch day)에 저장, 범위 밖 날짜는 null -> 전체 계산
+// - 결과는 TaskService.buildSchedule과 같음 (오늘 = 인덱스 범위 조회 + 완료 조인, 다가오는 일정 = 범위 안 첫 날짜 + 범위 밖 task만 추가 계산)
+@Service
+public class TaskAgendaService {
+
+    static final String JOB_NAME = "task-agenda";
+
+    private final TaskAgendaRepository agendaRepository;
+    private final TaskRepository taskRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int windowDays;
+
+    // shard -> 이 날짜까지 펼쳐 둠 (없으면 아직 사용 불가)
+    private final Map<Integer, LocalDate> coveredUntil = new ConcurrentHashMap<>();
+
+    public TaskAgendaService(
+            TaskAgendaRepository agendaRepository,
+            TaskRepository taskRepository,
+            JobCheckpointRepository checkpointRepository,
+            ShardExecutor shardExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${agenda.enabled:false}") boolean enabled,
+            @Value("${agenda.window-days:14}") int windowDays) {
+        this.agendaRepository = agendaRepository;
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.shardExecutor = shardExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowDays = windowDays;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 오늘 기준 펼칠 마지막 날짜
+    public LocalDate windowEnd(LocalDate today) {
+        return today.plusDays(windowDays);
+    }
+
+    // 펼쳐 둔 일정으로 getTaskSchedule과 같은 결과, date가 펼친 범위 밖이면 null
+    public Map<String, List<TaskResponse>> getSchedule(Long userId, LocalDate date) {
+        if (!enabled) return null;
+        LocalDate until = coveredUntil.get(shardExecutor.shardOf(userId));
+        // 지난 날짜 행은 지워지므로 오늘부터만
+        if (until == null || date.isBefore(LocalDate.now()) || date.isAfter(until)) return null;
+
+        // 1. 오늘 - 지난 일회성 task를 그날 완료했으면 빠지는 것까지 전체 계산과 같은 분류로
+        // (오늘 일정이 아니면 다음 날짜가 다가오는 일정 후보로 들어감)
+        ScheduleBuilder schedule = new ScheduleBuilder(date);
+        Set<Long> todayTaskIds = new HashSet<>();
+        for (DayRow row : agendaRepository.findDay(userId, date)) {
+            schedule.offer(row.getTask(), row.getCompleted());
+            todayTaskIds.add(row.getTask().getId());
+        }
+
+        // 2. 다가오는 일정 - 오늘 행이 있는 task는 위에서 처리했으므로 그만큼 더 조회
+        for (UpcomingRow row : agendaRepository.findUpcoming(userId, date, until,
+                Limit.of(UPCOMING_LIMIT + todayTaskIds.size()))) {
+            if (!todayTaskIds.contains(row.getTask().getId())) {
+                schedule.offerUpcoming(row.getTask(), row.getNextDate());
+            }
+        }
+
+        // 3. 범위 안에서 다 못 채웠으면 다음 일정이 범위 밖인 task도 (먼 마감일, 긴 간격 반복 - 보통 몇 개 안 됨)
+        if (schedule.upcomingSize() < UPCOMING_LIMIT) {
+            for (Task task : agendaRepository.findTasksOutside(userId, date, until)) {
+                schedule.offerUpcoming(task, RecurrenceUtils.nextOccurrence(task, date));
+            }
+        }
+
+        return schedule.build();
+    }
+
+    // task 생성 시 (createTask 트랜잭션 안에서) - 자정 직후 job이 밀기 전에 만든 task도 빠지지 않게 하루 더
+    public void add(Task task) {
+        if (!enabled) return;
+        LocalDate today = LocalDate.now();
+        agendaRepository.saveAll(entries(task, today, windowEnd(today).plusDays(1)));
+    }
+
+    // task 삭제 시 (deleteTask 트랜잭션 안에서)
+    public void remove(Long userId, Long taskId) {
+        if (!enabled) return;
+        agendaRepository.deleteOwnedByTask(userId, taskId);
+    }
+
+    // 사용자의 일정 다시 펼치기 (가져오기처럼 task가 JPA를 거치지 않고 들어온 경우)
+    @Transactional
+    public void rebuildUser(Long userId) {
+        if (!enabled) return;
+        LocalDate today = LocalDate.now();
+        agendaRepository.deleteAllByUserFrom(userId, today);
+        for (Task task : taskRepository.findAllByUserId(userId)) {
+            agendaRepository.saveAll(entries(task, today, windowEnd(today).plusDays(1)));
+        }
+    }
+
+    // [from, to] 사이에 task가 펼쳐질 날짜
+    public static List<LocalDate> agendaDates(Task task, LocalDate from, LocalDate to) {
+        if (task.getTaskType() == TaskType.ONE_TIME) {
+            LocalDate due = task.getDueDate();
+            if (due == null || due.isAfter(to)) return List.of();
+            // 마감일부터 매일 (지난 마감 표시)
+            return (due.isAfter(from) ? due : from).datesUntil(to.plusDays(1)).toList();
+        }
+        return RecurrenceUtils.occurrences(task, from, to);
+    }
+
+    private List<TaskAgendaEntry> entries(Task task, LocalDate from, LocalDate to) {
+        Long userId = task.getUser().getId();
+        return agendaDates(task, from, to).stream()
+                .map(date -> new TaskAgendaEntry(userId, date, task))
+                .toList();
+    }
+
+    // 펼친 범위 (TaskAgendaJob이 갱신, 다른 인스턴스가 민 범위는 주기적으로 다시 읽음)
+    void updateCoverage(int shardId, LocalDate until) {
+        if (until == null) {
+            coveredUntil.remove(shardId);
+        } else {
+            coveredUntil.put(shardId, until);
+        }
+    }
+
+    // 꺼져 있던 동안 빠진 행은 TaskAgendaJob의 기동 회차가 다시 펼침 (여기서는 범위만 읽음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        refreshCoverage();
+    }
+
+    @Scheduled(fixedDelayString = "${agenda.refresh-interval:60000}", initialDelayString = "${agenda.refresh-interval:60000}")
+    public void refreshCoverage() {
+        if (!enabled) return;
+        shardExecutor.forEachShard(() -> {
+            int shardId = shardExecutor.currentShard();
+            JobCheckpoint checkpoint = transactionTemplate.execute(status ->
+                    checkpointRepository.findById(JOB_NAME).orElse(null));
+            updateCoverage(shardId, checkpoint == null || checkpoint.getLastId() == 0
+                    ? null : LocalDate.ofEpochDay(checkpoint.getLastId()));
+        });
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.demo.service;
+
+import com.example.demo.config.DataFormatConfig;
+import com.example.demo.domain.TaskReminder;
+import com.example.demo.dto.TaskImportResult;
+import com.example.demo.dto.TaskImportResult.RowError;
+import com.example.demo.dto.TaskRequest;
+import com.example.demo.util.RecurrenceUtils;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// NDJSON / CSV 일괄 등록
+// - 요청 본문을 한 행씩 읽으면서 TaskRequest와 같은 규칙으로 검증
+// - 통과한 행은 batch-size 만큼 모아서 JDBC batch insert (batch마다 짧은 트랜잭션)
+// - IDENTITY 전략이라 JPA로는 insert batching이 안 돼서 JdbcTemplate 사용
+// - 알림 설정이 있는 행은 생성된 task id를 받아서 task_reminders도 같은 batch 트랜잭션에 넣음
+//   (timing wheel에는 ReminderService catch-up 조회로 올라감 - 다른 인스턴스에서 만든 task와 같은 경로)
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private static final String INSERT_SQL = "insert into tasks " +
+            "(user_id, title, description, task_type, due_date, recurrence_rule, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String REMINDER_INSERT_SQL = "insert into task_reminders " +
+            "(task_id, reminder_time, days_before, occurrence_date, next_fire_at, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = DataFormatConfig.csvMapper();
+    private final Validator validator;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskAgendaService taskAgendaService;
+    private final int batchSize;
+    private final int maxRows;
+
+    public TaskImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            TaskSearchIndex taskSearchIndex,
+            TaskAgendaService taskAgendaService,
+            @Value("${task-import.batch-size:500}") int batchSize,
+            @Value("${task-import.max-rows:10000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskAgendaService = taskAgendaService;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    // 한 줄에 JSON 객체 하나 (잘못된 줄이 있어도 다음 줄부터 계속)
+    public TaskImportResult importNdjson(Long userId, InputStream in) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(TaskRequest.class);
+        ImportContext context = new ImportContext(userId);
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = lines.readLine()) != null && !context.isFull()) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                try {
+                    context.accept(lineNumber, reader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    context.reject(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+        }
+        return context.finish();
+    }
+
+    // 첫 줄은 헤더 (title,description,taskType,dueDate,recurrenceRule,reminderTime,reminderDaysBefore - 순서 무관, 모르는 컬럼 무시)
+    public TaskImportResult importCsv(Long userId, InputStream in) throws IOException {
+        ObjectReader reader = csvMapper.readerFor(TaskRequest.class).with(CsvSchema.emptySchema().withHeader());
+        ImportContext context = new ImportContext(userId);
+
+        try (MappingIterator<TaskRequest> rows = reader.readValues(in)) {
+            long lineNumber = 1;
+            while (!context.isFull()) {
+                lineNumber++;
+                try {
+                    if (!rows.hasNextValue()) break;
+                    context.accept(lineNumber, rows.nextValue());
+                } catch (JsonParseException e) {
+                    // CSV 구조 자체가 깨진 경우 이후 행은 신뢰할 수 없으므로 중단
+                    context.reject(lineNumber, "CSV 형식 오류: " + e.getOriginalMessage());
+                    break;
+                } catch (RuntimeJsonMappingException | JsonProcessingException e) {
+                    context.reject(lineNumber, "값 변환 오류: " + e.getMessage());
+                }
+            }
+        }
+        return context.finish();
+    }
+
+    private record PendingRow(long line, TaskRequest request) {}
+
+    // 한 번의 가져오기 요청 상태 (검증 + batch 버퍼 + 결과 집계)
+    private class ImportContext {
+        private final Long userId;
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private int rows;
+        private int imported;
+
+        ImportContext(Long userId) {
+            this.userId = userId;
+        }
+
+        boolean isFull() {
+            return rows >= maxRows;
+        }
+
+        void accept(long line, TaskRequest request) {
+            if (request == null) {
+                reject(line, "빈 행입니다.");
+                return;
+            }
+
+            rows++;
+            Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors.add(new RowError(line, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "))));
+                return;
+            }
+
+            batch.add(new PendingRow(line, request));
+            if (batch.size() >= batchSize) flush();
+        }
+
+        void reject(long line, String message) {
+            rows++;
+            errors.add(new RowError(line, message));
+        }
+
+        TaskImportResult finish() {
+            flush();
+            // 새 id를 모으지 않으므로 검색 색인은 다음 검색 때 새로 만들게 함
+            if (imported > 0) taskSearchIndex.invalidate(userId);
+            // 미리 펼쳐 둔 일정도 사용자 단위로 다시
+            if (imported > 0) taskAgendaService.rebuildUser(userId);
+            if (isFull()) {
+                errors.add(new RowError(0, "최대 " + maxRows + "행까지만 처리했습니다."));
+            }
+            return new TaskImportResult(imported, rows - imported, errors);
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertBatch(batch));
+                imported += batch.size();
+            } catch (DataAccessException e) {
+                // batch 중 하나라도 실패하면 행 단위로 다시 시도해서 실패한 행만 보고
+                log.debug("batch insert 실패, 행 단위로 재시도: {}", e.getMessage());
+                for (PendingRow row : batch) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(row)));
+                        imported++;
+                    } catch (DataAccessException rowError) {
+                        errors.add(new RowError(row.line(), "저장 실패: " + rowError.getMostSpecificCause().getMessage()));
+                    }
+                }
+            }
+            batch.clear();
+        }
+
+        private void insertBatch(List<PendingRow> rows) {
+            LocalDateTime now = LocalDateTime.now();
+            if (rows.stream().noneMatch(row -> row.request().getReminderTime() != null)) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (PreparedStatement ps, PendingRow row) -> bind(ps, row.request(), now));
+                return;
+            }
+
+            // 알림이 있는 행이 섞여 있으면 생성된 id를 받아옴 (batch 순서대로)
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bind(ps, rows.get(i).request(), now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    }, keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            List<TaskReminder> reminders = new ArrayList<>();
+            List<Long> taskIds = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                TaskRequest request = rows.get(i).request();
+                if (request.getReminderTime() == null) continue;
+                taskIds.add(((Number) keys.get(i).get("id")).longValue());
+                reminders.add(reminderFor(request, now));
+            }
+            jdbcTemplate.batchUpdate(REMINDER_INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bindReminder(ps, taskIds.get(i), reminders.get(i), now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return reminders.size();
+                }
+            });
+        }
+
+        // ReminderService.register와 같은 일정 계산 (오늘 이후 첫 일정, 알림 시각이 지났으면 바로)
+        private TaskReminder reminderFor(TaskRequest request, LocalDateTime now) {
+            TaskReminder reminder = TaskReminder.builder()
+                    .reminderTime(request.getReminderTime())
+                    .daysBefore(request.getReminderDaysBefore())
+                    .build();
+            reminder.scheduleFor(RecurrenceUtils.nextOccurrence(request.getTaskType(), request.getDueDate(),
+                    request.getRecurrenceRule(), now, now.toLocalDate().minusDays(1)), now);
+            return reminder;
+        }
+
+        private void bindReminder(PreparedStatement ps, long taskId, TaskReminder reminder, LocalDateTime now) throws SQLException {
+            ps.setLong(1, taskId);
+            ps.setObject(2, reminder.getReminderTime());
+            ps.setInt(3, reminder.getDaysBefore());
+            if (reminder.getOccurrenceDate() == null) {
+                ps.setNull(4, Types.DATE);
+                ps.setNull(5, Types.TIMESTAMP);
+            } else {
+                ps.setObject(4, reminder.getOccurrenceDate());
+                ps.setObject(5, reminder.getNextFireAt());
+            }
+            ps.setObject(6, now);
+            ps.setObject(7, now);
+        }
+
+        private void bind(PreparedStatement ps, TaskRequest request, LocalDateTime now) throws SQLException {
+            ps.setLong(1, userId);
+            ps.setString(2, request.getTitle());
+            ps.setString(3, request.getDescription());
+            ps.setString(4, request.getTaskType().name());
+            if (request.getDueDate() == null) {
+                ps.setNull(5, Types.DATE);
+            } else {
+                ps.setObject(5, request.getDueDate());
+            }
+            ps.setString(6, request.getRecurrenceRule());
+            ps.setObject(7, now);
+            ps.setObject(8, now);
+        }
+    }
+}
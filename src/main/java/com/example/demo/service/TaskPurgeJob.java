@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.TaskAgendaRepository;
+import com.example.demo.repository.TaskCompletionArchiveRepository;
+import com.example.demo.repository.TaskCompletionRepository;
+import com.example.demo.repository.TaskReminderRepository;
+import com.example.demo.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 삭제 표시(tombstone)된 task를 실제로 지우는 배치
+// - 완료 기록은 batch-size 건씩 짧은 트랜잭션으로 (task 하나에 수천 건이 있어도 락을 오래 잡지 않음)
+// - 배치마다 지운 행 수만큼 쉬어서 초당 max-rows-per-second 이하로 (운영 트래픽에 주는 부담 제한)
+// - 중간에 멈춰도 tombstone이 남아 있으므로 다음 회차에 이어서 처리
+// - shard마다 한 인스턴스에서만 실행 (JobLockService) -> 속도 제한이 인스턴스 수만큼 늘어나지 않음
+@Slf4j
+@Component
+public class TaskPurgeJob {
+
+    private static final String JOB_NAME = "task-purge";
+
+    private final TaskRepository taskRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final TaskCompletionArchiveRepository archiveRepository;
+    private final TaskReminderRepository reminderRepository;
+    private final TaskAgendaRepository agendaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+    private final JobLockService jobLockService;
+
+    private final boolean enabled;
+    private final Duration retention;
+    private final int taskBatchSize;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final int maxBatchesPerRun;
+
+    public TaskPurgeJob(
+            TaskRepository taskRepository,
+            TaskCompletionRepository taskCompletionRepository,
+            TaskCompletionArchiveRepository archiveRepository,
+            TaskReminderRepository reminderRepository,
+            TaskAgendaRepository agendaRepository,
+            PlatformTransactionManager transactionManager,
+            ShardExecutor shardExecutor,
+            JobLockService jobLockService,
+            @Value("${purge.enabled:true}") boolean enabled,
+            @Value("${purge.retention:10m}") Duration retention,
+            @Value("${purge.task-batch-size:50}") int taskBatchSize,
+            @Value("${purge.batch-size:500}") int batchSize,
+            @Value("${purge.max-rows-per-second:2000}") int maxRowsPerSecond,
+            @Value("${purge.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.taskRepository = taskRepository;
+        this.taskCompletionRepository = taskCompletionRepository;
+        this.archiveRepository = archiveRepository;
+        this.reminderRepository = reminderRepository;
+        this.agendaRepository = agendaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardExecutor = shardExecutor;
+        this.jobLockService = jobLockService;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.taskBatchSize = taskBatchSize;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${purge.interval:60000}", initialDelayString = "${purge.interval:60000}")
+    public void run() {
+        if (!enabled) return;
+
+        // 삭제 직후엔 진행 중인 요청이 있을 수 있어서 retention 지난 것만
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        shardExecutor.forEachShard(() -> jobLockService.runLocked(JOB_NAME, () -> {
+            int purged = purgeShard(before);
+            if (purged > 0) {
+                log.info("삭제된 task 정리: {}건 (삭제 시각 {} 이전)", purged, before);
+            }
+        }));
+    }
+
+    // 이번 회차에 완전히 지운 task 수 반환
+    private int purgeShard(LocalDateTime before) {
+        int batches = 0;
+        int purged = 0;
+        while (batches < maxBatchesPerRun) {
+            List<Long> taskIds = transactionTemplate.execute(status ->
+                    taskRepository.findPurgeCandidates(before, Limit.of(taskBatchSize)));
+            if (taskIds == null || taskIds.isEmpty()) break;
+
+            // 1. 완료 기록 - batch-size 건씩
+            boolean completionsLeft = true;
+            while (completionsLeft && batches < maxBatchesPerRun) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<Long> ids = taskCompletionRepository.findIdsByTaskIds(taskIds, Limit.of(batchSize));
+                    if (!ids.isEmpty()) taskCompletionRepository.deleteAllByIdInBatch(ids);
+                    return ids.size();
+                });
+                batches++;
+                completionsLeft = deleted != null && deleted == batchSize;
+                throttle(deleted != null ? deleted : 0);
+            }
+            // 한도에 걸렸으면 나머지는 다음 회차에
+            if (completionsLeft) break;
+
+            // 2. 아카이브(task당 월 1행), 알림(task당 1행), 펼친 일정(삭제 시 이미 지워짐), task 본체는 한 트랜잭션으로
+            Integer deleted = transactionTemplate.execute(status ->
+                    archiveRepository.deleteAllByTaskIds(taskIds)
+                            + reminderRepository.deleteAllByTaskIds(taskIds)
+                            + agendaRepository.deleteAllByTaskIds(taskIds)
+                            + taskRepository.deleteTombstoned(taskIds));
+            batches++;
+            purged += taskIds.size();
+            throttle(deleted != null ? deleted : 0);
+            if (!jobLockService.renew(JOB_NAME)) break;
+        }
+        return purged;
+    }
+
+    // 지운 행 수만큼 쉬기 (rows / maxRowsPerSecond 초)
+    private void throttle(int rows) {
+        if (rows == 0 || maxRowsPerSecond <= 0) return;
+        try {
+            Thread.sleep(rows * 1000L / maxRowsPerSecond);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardContext;
+import com.example.demo.domain.Task;
+import com.example.demo.dto.TaskSearchResult;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.util.InvertedIndex;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.example.demo.util.TransactionUtils.afterCommit;
+
+// 사용자별 task 검색 색인 (title + description)
+// - 처음 검색할 때 사용자의 task를 스트리밍해서 색인 생성, 최근 검색한 사용자 max-indexed-users명만 메모리에 유지
+// - task 생성/삭제는 커밋 후 색인에 바로 반영
+// - 다른 인스턴스에서 생긴 변경은 검색할 때 반영 (task는 생성 / 삭제만 있고 수정은 없음)
+//   생성: 색인에 넣은 가장 큰 task id 이후 행만 읽어서 추가 ((user_id, id) 범위 조회, 보통 0건)
+//   삭제: 결과 id를 DB에서 확인해서 바로 걸러내고 색인에서도 뺌
+// - 재구성은 새 색인을 따로 만든 뒤 교체 (그 동안 검색은 기존 색인으로, 재구성 중 변경분은 양쪽에 반영)
+//   주기적 재구성은 id 순서와 다르게 늦게 커밋된 task를 놓쳤을 때를 위한 보정용 (기본 6시간)
+// - 같은 사용자 색인은 한 번에 하나만 생성 (처음 검색이 동시에 와도 한 번만 만듦)
+@Slf4j
+@Service
+public class TaskSearchIndex {
+
+    // 검색 결과에서 삭제된 task를 빼고 다시 검색하는 최대 횟수
+    private static final int MAX_STALE_RETRIES = 3;
+
+    private final TaskRepository taskRepository;
+    private final ShardExecutor shardExecutor;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Long, UserIndex> current;
+    private final Map<Long, UserIndex> building = new ConcurrentHashMap<>();
+    // 사용자별 재구성 lock (virtual thread에서 DB를 읽는 동안 carrier를 잡지 않도록 synchronized 대신 사용)
+    private final ReentrantLock[] rebuildLocks = new ReentrantLock[64];
+
+    public TaskSearchIndex(
+            TaskRepository taskRepository,
+            ShardExecutor shardExecutor,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${search.max-indexed-users:10000}") int maxIndexedUsers) {
+        this.taskRepository = taskRepository;
+        this.shardExecutor = shardExecutor;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        for (int i = 0; i < rebuildLocks.length; i++) {
+            rebuildLocks[i] = new ReentrantLock();
+        }
+        // access-order LinkedHashMap = LRU
+        this.current = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserIndex> eldest) {
+                return size() > maxIndexedUsers;
+            }
+        });
+    }
+
+    public List<TaskSearchResult> search(Long userId, String query, int limit) {
+        UserIndex userIndex = current.get(userId);
+        if (userIndex == null) userIndex = rebuild(userId, true); // 처음 검색하는 사용자만 색인 생성을 기다림
+        else catchUp(userId, userIndex);
+        InvertedIndex<TaskSearchResult> index = userIndex.index();
+
+        // 삭제된 task가 섞여 있으면 색인에서 빼고 다시 검색 (빠진 자리를 다음 순위로 채움)
+        List<InvertedIndex.Hit<TaskSearchResult>> hits = index.search(query, limit);
+        for (int attempt = 1; !hits.isEmpty(); attempt++) {
+            Set<Long> active = activeIds(userId, hits);
+            if (active.size() == hits.size()) break;
+
+            for (InvertedIndex.Hit<TaskSearchResult> hit : hits) {
+                if (!active.contains(hit.id())) forEachIndex(userId, stale -> stale.remove(hit.id()));
+            }
+            if (attempt == MAX_STALE_RETRIES) {
+                hits = hits.stream().filter(hit -> active.contains(hit.id())).toList();
+                break;
+            }
+            hits = index.search(query, limit);
+        }
+
+        return hits.stream()
+                .map(hit -> hit.payload().toBuilder().score(hit.score()).build())
+                .toList();
+    }
+
+    // createTask에서 호출 (커밋 후 반영)
+    public void add(Long userId, Task task) {
+        TaskSearchResult payload = toPayload(task);
+        String title = task.getTitle();
+        String description = task.getDescription();
+        // 가장 큰 id는 옮기지 않음 (다른 인스턴스에서 더 작은 id가 늦게 커밋될 수 있어서 catchUp이 다시 읽음)
+        afterCommit(() -> forEachIndex(userId, index -> index.put(payload.getId(), payload, title, description)));
+    }
+
+    // deleteTask에서 호출 (커밋 후 반영)
+    public void remove(Long userId, Long taskId) {
+        afterCommit(() -> forEachIndex(userId, index -> index.remove(taskId)));
+    }
+
+    // 개별 반영이 어려운 대량 변경(일괄 등록 등) 후 - 다음 검색 때 새로 만듦
+    public void invalidate(Long userId) {
+        afterCommit(() -> current.remove(userId));
+    }
+
+    // 메모리에 있는 색인들을 DB 기준으로 다시 만듦 (다른 인스턴스 변경분 반영)
+    @Scheduled(initialDelayString = "${search.rebuild-interval:21600000}",
+            fixedDelayString = "${search.rebuild-interval:21600000}")
+    public void rebuildAll() {
+        List<Long> userIds;
+        synchronized (current) {
+            userIds = List.copyOf(current.keySet());
+        }
+        for (Long userId : userIds) {
+            try {
+                rebuild(userId, false);
+            } catch (Exception e) {
+                log.warn("검색 색인 재구성 실패: user={}", userId, e);
+            }
+        }
+        log.info("검색 색인 재구성 완료: 사용자 {}명", userIds.size());
+    }
+
+    // ifMissing: 처음 검색 경로 - lock을 기다리는 동안 다른 요청이 만들었으면 그걸 씀
+    private UserIndex rebuild(Long userId, boolean ifMissing) {
+        ReentrantLock lock = rebuildLocks[Math.floorMod(userId.hashCode(), rebuildLocks.length)];
+        lock.lock();
+        try {
+            if (ifMissing) {
+                UserIndex existing = current.get(userId);
+                if (existing != null) return existing;
+            }
+
+            UserIndex userIndex = new UserIndex(new InvertedIndex<>(), new AtomicLong());
+            building.put(userId, userIndex);
+            try {
+                ShardContext.runOnShard(shardExecutor.shardOf(userId), () ->
+                        readOnlyTransaction.executeWithoutResult(status -> {
+                            try (Stream<Task> tasks = taskRepository.streamAllByUserId(userId)) {
+                                tasks.forEach(task -> {
+                                    userIndex.put(task);
+                                    entityManager.detach(task);
+                                });
+                            }
+                        }));
+                current.put(userId, userIndex);
+                return userIndex;
+            } finally {
+                building.remove(userId, userIndex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 다른 인스턴스에서 생성된 task 반영 (색인에 넣은 가장 큰 id 이후만)
+    private void catchUp(Long userId, UserIndex userIndex) {
+        long afterId = userIndex.maxTaskId().get();
+        List<Task> created = ShardContext.callOnShard(shardExecutor.shardOf(userId), () ->
+                readOnlyTransaction.execute(status -> taskRepository.findActiveByUserIdAfter(userId, afterId)));
+        if (created == null || created.isEmpty()) return;
+        created.forEach(userIndex::put);
+    }
+
+    private Set<Long> activeIds(Long userId, List<InvertedIndex.Hit<TaskSearchResult>> hits) {
+        List<Long> ids = hits.stream().map(InvertedIndex.Hit::id).toList();
+        return ShardContext.callOnShard(shardExecutor.shardOf(userId), () ->
+                new HashSet<>(taskRepository.findActiveIds(userId, ids)));
+    }
+
+    private void forEachIndex(Long userId, Consumer<InvertedIndex<TaskSearchResult>> action) {
+        UserIndex live = current.get(userId);
+        if (live != null) action.accept(live.index());
+        UserIndex next = building.get(userId);
+        if (next != null && next != live) action.accept(next.index());
+    }
+
+    private static TaskSearchResult toPayload(Task task) {
+        return TaskSearchResult.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .taskType(task.getTaskType())
+                .dueDate(task.getDueDate())
+                .recurrenceRule(task.getRecurrenceRule())
+                .build();
+    }
+
+    // 사용자 색인 + DB에서 읽어 넣은 가장 큰 task id (catchUp 시작 위치)
+    private record UserIndex(InvertedIndex<TaskSearchResult> index, AtomicLong maxTaskId) {
+
+        void put(Task task) {
+            index.put(task.getId(), toPayload(task), task.getTitle(), task.getDescription());
+            maxTaskId.accumulateAndGet(task.getId(), Math::max);
+        }
+    }
+}
@@ -2,46 +2,60 @@ package com.example.demo.service;
 
 import com.example.demo.domain.Task;
 import com.example.demo.domain.TaskCompletion;
-import com.example.demo.domain.TaskType;
+import com.example.demo.domain.TaskCompletionArchive;
 import com.example.demo.domain.User;
 import com.example.demo.dto.TaskRequest;
 import com.example.demo.dto.TaskResponse;
 import com.example.demo.exception.CustomException;
 import com.example.demo.exception.ErrorCode;
+import com.example.demo.jfr.ScheduleComputedEvent;
+import com.example.demo.repository.TaskCompletionArchiveRepository;
 import com.example.demo.repository.TaskCompletionRepository;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.repository.UserRepository;
-import com.example.demo.util.RecurrenceUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 기본적으로 조회 전용 (성능 최적화)
 public class TaskService {
 
+    // 다가오는 일정 최대 개수
+    public static final int UPCOMING_LIMIT = 50;
+
     private final TaskRepository taskRepository;
     private final TaskCompletionRepository taskCompletionRepository;
     private final UserRepository userRepository;
+    private final TaskCompletionArchiveRepository taskCompletionArchiveRepository;
+    private final ReminderService reminderService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskAgendaService taskAgendaService;
 
     // task 생성
     @Transactional
     public Long createTask(Long userId, TaskRequest request) {
         User user = getUserOrThrow(userId);
-        Task task = request.toEntity(user);
-        return taskRepository.save(task).getId();
+        Task task = taskRepository.save(request.toEntity(user));
+
+        // 알림 설정이 있으면 등록 (커밋 후 timing wheel에 반영)
+        if (request.getReminderTime() != null) {
+            reminderService.register(task, request.getReminderTime(), request.getReminderDaysBefore());
+        }
+        taskSearchIndex.add(userId, task);
+        taskAgendaService.add(task);
+        return task.getId();
     }
 
     // task 완료처리
     @Transactional
     public void completeTask(Long userId, Long taskId, LocalDate date) {
-        Task task = getTaskOrThrow(taskId);
-        validateOwner(task, userId);
+        Task task = getOwnedTaskOrThrow(userId, taskId);
 
         // 이미 완료된 기록이 없으면 새로 생성 (중복 방지)
         if (!taskCompletionRepository.existsByTaskAndCompletionDate(task, date)) {
@@ -56,56 +70,92 @@ public class TaskService {
     // task 완료 취소
     @Transactional
     public void cancelTaskCompletion(Long userId, Long taskId, LocalDate date) {
-        Task task = getTaskOrThrow(taskId);
-        validateOwner(task, userId);
+        // 해당 날짜의 완료 기록 삭제 (본인 task인 경우만 - 쿼리 조건으로 확인)
+        int deleted = taskCompletionRepository.deleteOwnedCompletion(userId, taskId, date);
+
+        // 지워진 게 없으면 task 자체가 없거나 남의 것인지 확인
+        if (deleted == 0 && !taskRepository.existsByIdAndUserId(taskId, userId)) {
+            throw new CustomException(ErrorCode.TASK_NOT_FOUND);
+        }
 
-        // 해당 날짜의 완료 기록을 찾아서 삭제
-        taskCompletionRepository.findByTaskAndCompletionDate(task, date)
-                .ifPresent(taskCompletionRepository::delete);
+        // 이미 아카이브된 날짜면 아카이브에서도 제거
+        taskCompletionArchiveRepository.findByTaskIdAndArchiveMonth(taskId, date.withDayOfMonth(1))
+                .ifPresent(archive -> archive.unmark(date));
     }
 
-    // task 삭제
+    // task 삭제 - 삭제 표시(tombstone) 한 건만 update, 완료 기록 등 실제 삭제는 TaskPurgeJob이 나중에 나눠서 처리
     @Transactional
     public void deleteTask(Long userId, Long taskId) {
-        Task task = getTaskOrThrow(taskId);
-        validateOwner(task, userId);
-
-        // 1. 연관된 완료 기록 모두 삭제
-        taskCompletionRepository.deleteAllByTask(task);
-        // 2. 할 일 원본 삭제
-        taskRepository.delete(task);
+        // 0건이면 없거나 남의 task (이미 삭제된 task 포함)
+        if (taskRepository.softDeleteOwned(userId, taskId, LocalDateTime.now()) == 0) {
+            throw new CustomException(ErrorCode.TASK_NOT_FOUND);
+        }
+        reminderService.unregister(userId, taskId);
+        taskAgendaService.remove(userId, taskId);
+        taskSearchIndex.remove(userId, taskId);
     }
 
 
     // 조회
     public Map<String, List<TaskResponse>> getTaskSchedule(Long userId, LocalDate date) {
-        User user = getUserOrThrow(userId);
-        List<Task> allTasks = taskRepository.findAllByUser(user);
+        ScheduleComputedEvent event = new ScheduleComputedEvent();
+        event.begin();
+        int tasksScanned = 0;
+        int completionsFetched = 0;
 
-        // 성능 최적화: 오늘 날짜에 완료된 Task ID들을 한 번에 조회 (Set으로 변환하여 검색 속도 O(1) 보장)
-        Set<Long> completedTaskIds = getCompletedTaskIds(user, date);
+        // 미리 펼쳐 둔 일정(task_agenda)이 date를 포함하면 그걸로 (전체 task 스캔 X)
+        Map<String, List<TaskResponse>> schedule = taskAgendaService.getSchedule(userId, date);
+        boolean fromAgenda = schedule != null;
 
-        List<TaskResponse> todayList = new ArrayList<>();
-        List<TaskResponse> upcomingList = new ArrayList<>();
+        if (schedule == null) {
+            // users 조회 없이 user_id로 바로 조회
+            List<Task> allTasks = taskRepository.findAllByUserId(userId);
 
-        for (Task task : allTasks) {
-            boolean isCompleted = completedTaskIds.contains(task.getId());
+            // 성능 최적화: 오늘 날짜에 완료된 Task ID들을 한 번에 조회 (Set으로 변환하여 검색 속도 O(1) 보장)
+            Set<Long> completedTaskIds = getCompletedTaskIds(userId, date);
+
+            schedule = buildSchedule(allTasks, completedTaskIds, date);
+            tasksScanned = allTasks.size();
+            completionsFetched = completedTaskIds.size();
+        }
 
-            // 1. 오늘 리스트: RecurrenceUtils에게 판단 위임 (관심사 분리)
-            if (RecurrenceUtils.isScheduledForDate(task, date, isCompleted)) {
-                todayList.add(TaskResponse.from(task, isCompleted));
-            }
+        // JFR 이벤트 (기록 중일 때만 값 채움)
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = userId;
+            event.date = date.toString();
+            event.fromAgenda = fromAgenda;
+            event.tasksScanned = tasksScanned;
+            event.todayMatches = schedule.get("today").size();
+            event.upcomingMatches = schedule.get("upcoming").size();
+            event.completionsFetched = completionsFetched;
+            event.commit();
+        }
+        return schedule;
+    }
 
-            // 2. 다가오는 일정: 일회성 작업 중 마감일이 미래인 것
-            else if (task.getTaskType() == TaskType.ONE_TIME && task.getDueDate().isAfter(date)) {
-                upcomingList.add(TaskResponse.from(task, false));
-            }
+    // 한 사용자의 task 목록으로 오늘/다가오는 일정 계산 (DB 접근 없음 - 일일 요약 배치도 같은 로직 사용)
+    public static Map<String, List<TaskResponse>> buildSchedule(List<Task> allTasks, Set<Long> completedTaskIds, LocalDate date) {
+        ScheduleBuilder schedule = new ScheduleBuilder(date);
+        for (Task task : allTasks) {
+            schedule.offer(task, completedTaskIds.contains(task.getId()));
         }
+        return schedule.build();
+    }
 
-        // 다가오는 일정은 날짜순 정렬
-        upcomingList.sort(Comparator.comparing(TaskResponse::getDueDate));
+    // 완료 이력 조회 - 최근 기록(task_completions)과 아카이브(월별 압축본)를 합쳐서 날짜순으로 반환
+    public List<LocalDate> getCompletionHistory(Long userId, Long taskId, LocalDate from, LocalDate to) {
+        Task task = getOwnedTaskOrThrow(userId, taskId);
 
-        return Map.of("today", todayList, "upcoming", upcomingList);
+        SortedSet<LocalDate> dates = new TreeSet<>();
+        taskCompletionRepository.findByTaskAndCompletionDateBetween(task, from, to)
+                .forEach(tc -> dates.add(tc.getCompletionDate()));
+
+        for (TaskCompletionArchive archive : taskCompletionArchiveRepository
+                .findAllByTaskAndArchiveMonthBetween(task, from.withDayOfMonth(1), to.withDayOfMonth(1))) {
+            dates.addAll(archive.completionDatesBetween(from, to));
+        }
+        return new ArrayList<>(dates);
     }
 
     // 헬퍼 메서드
@@ -114,20 +164,13 @@ public class TaskService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
-    private Task getTaskOrThrow(Long taskId) {
-        return taskRepository.findById(taskId)
+    // 본인 task만 조회 (WHERE id = ? AND user_id = ?) - 남의 task도 존재하지 않는 것으로 처리
+    private Task getOwnedTaskOrThrow(Long userId, Long taskId) {
+        return taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
     }
 
-    private void validateOwner(Task task, Long userId) {
-        if (!task.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.TASK_ACCESS_DENIED);
-        }
-    }
-
-    private Set<Long> getCompletedTaskIds(User user, LocalDate date) {
-        return taskCompletionRepository.findByTaskUserAndCompletionDate(user, date).stream()
-                .map(tc -> tc.getTask().getId())
-                .collect(Collectors.toSet());
+    private Set<Long> getCompletedTaskIds(Long userId, LocalDate date) {
+        return new HashSet<>(taskCompletionRepository.findCompletedTaskIds(userId, date));
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.example.demo.service;
+
+import com.example.demo.config.DataFormatConfig;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskCompletionArchive;
+import com.example.demo.dto.TaskExportRow;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.exception.SuccessCode;
+import com.example.demo.repository.TaskCompletionArchiveRepository;
+import com.example.demo.repository.TaskCompletionArchiveRepository.ArchiveMonthRow;
+import com.example.demo.repository.TaskCompletionRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.util.JsonStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+// 대용량 조회 결과를 DTO 목록으로 모으지 않고 DB에서 읽는 대로 응답에 바로 쓰는 서비스
+// StreamingResponseBody 안(비동기 스레드)에서 호출되므로 트랜잭션도 그 스레드에서 열림
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskStreamService {
+
+    private final TaskRepository taskRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final TaskCompletionArchiveRepository taskCompletionArchiveRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = DataFormatConfig.csvMapper();
+
+    // 스트리밍 시작 전에 호출 (응답 커밋 후에는 404를 돌려줄 수 없으므로)
+    public void verifyOwnedTask(Long userId, Long taskId) {
+        if (!taskRepository.existsByIdAndUserId(taskId, userId)) {
+            throw new CustomException(ErrorCode.TASK_NOT_FOUND);
+        }
+    }
+
+    // TaskService.getTaskSchedule과 같은 결과를 스트리밍으로 출력
+    public void writeTaskSchedule(Long userId, LocalDate date, OutputStream out) throws IOException {
+        Set<Long> completedTaskIds = new HashSet<>(taskCompletionRepository.findCompletedTaskIds(userId, date));
+
+        try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, SuccessCode.SELECT_SUCCESS)) {
+            writer.startObject();
+
+            // 1. 오늘 리스트 - 쓰는 동안 다가오는 일정 후보도 같이 모음 (최대 UPCOMING_LIMIT개라 메모리 일정)
+            ScheduleBuilder schedule = new ScheduleBuilder(date);
+            writer.startArray("today");
+            try (Stream<Task> tasks = taskRepository.streamAllByUserId(userId)) {
+                for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+                    Task task = it.next();
+                    TaskResponse today = schedule.classify(task, completedTaskIds.contains(task.getId()));
+                    if (today != null) writer.writeRow(today);
+                    entityManager.detach(task);
+                }
+            }
+            writer.endArray();
+
+            // 2. 다가오는 일정
+            writer.startArray("upcoming");
+            for (TaskResponse response : schedule.upcoming()) {
+                writer.writeRow(response);
+            }
+            writer.endArray();
+
+            writer.endObject();
+            writer.finish();
+        }
+    }
+
+    // TaskService.getCompletionHistory와 같은 결과 (최근 기록 + 아카이브 병합, 날짜순, 중복 제거)
+    public void writeCompletionHistory(Long taskId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, SuccessCode.SELECT_SUCCESS);
+             Stream<LocalDate> live = taskCompletionRepository.streamCompletionDates(taskId, from, to);
+             Stream<TaskCompletionArchive> archives = taskCompletionArchiveRepository
+                     .streamByTaskId(taskId, from.withDayOfMonth(1), to.withDayOfMonth(1))) {
+
+            Iterator<LocalDate> liveDates = live.iterator();
+            Iterator<LocalDate> archivedDates = archives
+                    .flatMap(archive -> {
+                        entityManager.detach(archive);
+                        return archive.completionDatesBetween(from, to).stream();
+                    })
+                    .iterator();
+
+            writer.startArray(null);
+            LocalDate a = next(liveDates);
+            LocalDate b = next(archivedDates);
+            while (a != null || b != null) {
+                LocalDate smaller = (b == null || (a != null && !a.isAfter(b))) ? a : b;
+                writer.writeRow(smaller);
+                if (a != null && a.isEqual(smaller)) a = next(liveDates);
+                if (b != null && b.isEqual(smaller)) b = next(archivedDates);
+            }
+            writer.endArray();
+            writer.finish();
+        }
+    }
+
+    // 내보내기 - task 한 개당 한 행 (완료 날짜는 최근 기록 + 아카이브 합쳐서)
+    // task 스트림과 아카이브 스트림 모두 task id 순이라 merge join으로 처리 (task별 추가 쿼리 없음)
+    public void writeExport(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        // 행마다 flush 하지 않음
+        SequenceWriter rowWriter = format == ExportFormat.CSV
+                ? csvMapper.writer(csvMapper.schemaFor(TaskExportRow.class).withHeader())
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValues(out)
+                : objectMapper.writer().withRootValueSeparator("\n")
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValues(out);
+
+        try (rowWriter;
+             Stream<TaskRepository.ExportRow> rows = taskRepository.streamExportRows(userId);
+             Stream<ArchiveMonthRow> archives = taskCompletionArchiveRepository.streamArchiveRowsByUserId(userId)) {
+
+            Iterator<TaskRepository.ExportRow> rowIt = rows.iterator();
+            Iterator<ArchiveMonthRow> archiveIt = archives.iterator();
+            ArchiveMonthRow archive = archiveIt.hasNext() ? archiveIt.next() : null;
+
+            TaskRepository.ExportRow row = rowIt.hasNext() ? rowIt.next() : null;
+            while (row != null) {
+                TaskRepository.ExportRow first = row;
+                Long taskId = first.getTaskId();
+                SortedSet<LocalDate> completions = new TreeSet<>();
+
+                // 같은 task의 완료 기록 행들 모으기 (left join이라 완료 기록 없으면 completionDate = null)
+                while (row != null && row.getTaskId().equals(taskId)) {
+                    if (row.getCompletionDate() != null) completions.add(row.getCompletionDate());
+                    row = rowIt.hasNext() ? rowIt.next() : null;
+                }
+
+                // 같은 task의 아카이브 (그 사이 삭제된 task의 아카이브는 건너뜀)
+                while (archive != null && archive.getTaskId() <= taskId) {
+                    if (archive.getTaskId().equals(taskId)) {
+                        completions.addAll(TaskCompletionArchive.completionDates(
+                                archive.getArchiveMonth(), archive.getCompletedDays(), LocalDate.MIN, LocalDate.MAX));
+                    }
+                    archive = archiveIt.hasNext() ? archiveIt.next() : null;
+                }
+
+                rowWriter.write(TaskExportRow.builder()
+                        .id(taskId)
+                        .title(first.getTitle())
+                        .description(first.getDescription())
+                        .taskType(first.getTaskType())
+                        .dueDate(first.getDueDate())
+                        .recurrenceRule(first.getRecurrenceRule())
+                        .completions(new ArrayList<>(completions))
+                        .build());
+            }
+        }
+    }
+
+    public enum ExportFormat {
+        NDJSON, CSV
+    }
+
+    private static LocalDate next(Iterator<LocalDate> it) {
+        return it.hasNext() ? it.next() : null;
+    }
+}
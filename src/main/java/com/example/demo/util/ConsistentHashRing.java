@@ -0,0 +1,36 @@
+package com.example.demo.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// userId -> shard 매핑용 consistent hash ring
+// shard마다 virtualNodes개의 가상 노드를 링에 배치 -> shard 추가/제거 시 약 1/N 사용자만 이동
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<Integer> shardIds, int virtualNodes) {
+        if (shardIds.isEmpty()) {
+            throw new IllegalArgumentException("shard가 최소 1개 필요합니다.");
+        }
+        for (int shardId : shardIds) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.put(mix(((long) shardId << 32) | v), shardId);
+            }
+        }
+    }
+
+    public int shardOf(long key) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(mix(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.util;
+
+import com.example.demo.util.TextTokenizer.QueryTerm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 문서(id + payload) 역색인
+// - term 사전은 정렬된 skip list -> prefix 검색은 범위 조회
+// - 쓰기는 synchronized, 읽기는 잠금 없이 (동시 수정 중에도 검색 가능)
+// - 점수: BM25 비슷하게 term 가중치(title 2, 본문 1) x idf, prefix 매칭은 감점
+public class InvertedIndex<V> {
+
+    private static final float TITLE_WEIGHT = 2f;
+    private static final float BODY_WEIGHT = 1f;
+    private static final float PREFIX_PENALTY = 0.7f;
+    // prefix 하나가 너무 많은 term에 걸리면 앞에서부터 이만큼만 봄 (한 글자 입력 등)
+    private static final int MAX_PREFIX_EXPANSION = 64;
+
+    private final ConcurrentSkipListMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Doc<V>> docs = new ConcurrentHashMap<>();
+
+    public record Hit<V>(long id, V payload, float score) {
+    }
+
+    private record Doc<V>(V payload, Set<String> terms) {
+    }
+
+    // 같은 id가 있으면 교체
+    public synchronized void put(long id, V payload, String title, String body) {
+        remove(id);
+        Map<String, Float> weights = new HashMap<>();
+        TextTokenizer.tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Float::sum));
+        TextTokenizer.tokenize(body).forEach(term -> weights.merge(term, BODY_WEIGHT, Float::sum));
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, k -> new ConcurrentHashMap<>()).put(id, weight));
+        docs.put(id, new Doc<>(payload, weights.keySet()));
+    }
+
+    public synchronized void remove(long id) {
+        Doc<V> doc = docs.remove(id);
+        if (doc == null) return;
+        for (String term : doc.terms()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // 검색어의 모든 term이 (prefix 포함) 매칭되는 문서 중 점수 상위 limit개
+    public List<Hit<V>> search(String query, int limit) {
+        List<QueryTerm> terms = TextTokenizer.tokenizeQuery(query);
+        if (terms.isEmpty() || limit <= 0) return List.of();
+
+        int docCount = Math.max(docs.size(), 1);
+        Map<Long, Float> scores = null;
+        for (QueryTerm queryTerm : terms) {
+            Map<Long, Float> termScores = scoreTerm(queryTerm, docCount);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // AND - 이전 term들과 모두 매칭된 문서만 남김
+                Map<Long, Float> merged = new HashMap<>();
+                for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                    Float score = termScores.get(entry.getKey());
+                    if (score != null) merged.put(entry.getKey(), entry.getValue() + score);
+                }
+                scores = merged;
+            }
+            if (scores.isEmpty()) return List.of();
+        }
+        return topK(scores, limit);
+    }
+
+    private Map<Long, Float> scoreTerm(QueryTerm queryTerm, int docCount) {
+        Map<Long, Float> result = new HashMap<>();
+        if (!queryTerm.prefix()) {
+            addPosting(postings.get(queryTerm.term()), 1f, docCount, result);
+            return result;
+        }
+
+        ConcurrentNavigableMap<String, Map<Long, Float>> range =
+                postings.subMap(queryTerm.term(), true, queryTerm.term() + Character.MAX_VALUE, true);
+        int expanded = 0;
+        for (Map.Entry<String, Map<Long, Float>> entry : range.entrySet()) {
+            if (expanded++ >= MAX_PREFIX_EXPANSION) break;
+            float factor = entry.getKey().equals(queryTerm.term()) ? 1f : PREFIX_PENALTY;
+            addPosting(entry.getValue(), factor, docCount, result);
+        }
+        return result;
+    }
+
+    // 한 문서가 같은 검색어의 여러 term에 걸리면 가장 높은 점수만
+    private void addPosting(Map<Long, Float> posting, float factor, int docCount, Map<Long, Float> result) {
+        if (posting == null || posting.isEmpty()) return;
+        int df = posting.size();
+        float idf = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+        posting.forEach((id, weight) -> result.merge(id, weight * idf * factor, Math::max));
+    }
+
+    // 크기 limit인 min-heap으로 상위 k개만 유지 (전체 정렬 X), 동점이면 최신(id 큰) 문서 우선
+    private List<Hit<V>> topK(Map<Long, Float> scores, int limit) {
+        Comparator<Hit<V>> order = Comparator.<Hit<V>>comparingDouble(Hit::score).thenComparingLong(Hit::id);
+        PriorityQueue<Hit<V>> heap = new PriorityQueue<>(limit + 1, order);
+        scores.forEach((id, score) -> {
+            Doc<V> doc = docs.get(id);
+            if (doc == null) return; // 검색 중 삭제됨
+            heap.offer(new Hit<>(id, doc.payload(), score));
+            if (heap.size() > limit) heap.poll();
+        });
+
+        List<Hit<V>> hits = new ArrayList<>(heap);
+        hits.sort(order.reversed());
+        return hits;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.util;
+
+import com.example.demo.exception.SuccessCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// ApiResponse와 같은 모양({"status", "message", "data"})의 JSON을 한 행씩 바로 써 내려가는 writer
+// 전체 결과를 메모리에 모으지 않으므로 결과 크기와 상관없이 힙 사용량이 일정함
+public class JsonStreamWriter implements AutoCloseable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter rowWriter;
+    private boolean finished;
+
+    private JsonStreamWriter(JsonGenerator generator, ObjectWriter rowWriter) {
+        this.generator = generator;
+        this.rowWriter = rowWriter;
+    }
+
+    // {"status":..., "message":..., "data": 까지 쓰고 반환
+    public static JsonStreamWriter open(ObjectMapper objectMapper, OutputStream out, SuccessCode successCode) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeNumberField("status", successCode.getHttpStatus().value());
+        generator.writeStringField("message", successCode.getMessage());
+        generator.writeFieldName("data");
+
+        // 행마다 flush 하지 않음 (버퍼가 찰 때만 내보냄)
+        return new JsonStreamWriter(generator, objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+
+    public void startObject() throws IOException {
+        generator.writeStartObject();
+    }
+
+    public void endObject() throws IOException {
+        generator.writeEndObject();
+    }
+
+    public void startArray(String fieldName) throws IOException {
+        if (fieldName == null) {
+            generator.writeStartArray();
+        } else {
+            generator.writeArrayFieldStart(fieldName);
+        }
+    }
+
+    public void endArray() throws IOException {
+        generator.writeEndArray();
+    }
+
+    public void writeRow(Object row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    // 바깥 envelope 닫기 - 본문을 끝까지 쓴 경우에만 호출
+    public void finish() throws IOException {
+        generator.writeEndObject();
+        finished = true;
+    }
+
+    // finish() 전에 닫히면(도중 예외) 괄호를 자동으로 닫지 않음 -> 잘린 본문이 정상 JSON처럼 보이지 않도록
+    // 여기서는 추가로 쓰지 않으므로 원래 예외가 그대로 전달됨
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        }
+        generator.close();
+    }
+}
@@ -4,20 +4,84 @@ import com.example.demo.domain.Task;
 import com.example.demo.domain.TaskType;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 public class RecurrenceUtils {
 
      // 오늘 날짜(date)가 해당 Task의 일정에 포함되는지 판단
     public static boolean isScheduledForDate(Task task, LocalDate date, boolean isCompletedToday) {
-        if (task.getTaskType() == TaskType.ONE_TIME) {
-            return isOneTimeTaskScheduled(task, date, isCompletedToday);
+        return isScheduledForDate(task.getTaskType(), task.getDueDate(), task.getRecurrenceRule(),
+                task.getCreatedAt(), date, isCompletedToday);
+    }
+
+    // 엔티티 없이 컬럼 값만으로 판단 (R2DBC 등 JPA 엔티티를 쓰지 않는 곳에서 사용)
+    public static boolean isScheduledForDate(TaskType taskType, LocalDate dueDate, String recurrenceRule,
+                                             LocalDateTime createdAt, LocalDate date, boolean isCompletedToday) {
+        if (taskType == TaskType.ONE_TIME) {
+            return isOneTimeTaskScheduled(dueDate, date, isCompletedToday);
+        }
+        return isRecurringTaskScheduled(recurrenceRule, createdAt, date);
+    }
+
+    // after 다음(after 제외) 첫 일정 날짜, 없으면 null
+    // 규칙 종류마다 날짜 계산으로 바로 구함 (하루씩 확인 X)
+    public static LocalDate nextOccurrence(Task task, LocalDate after) {
+        return nextOccurrence(task.getTaskType(), task.getDueDate(), task.getRecurrenceRule(), task.getCreatedAt(), after);
+    }
+
+    public static LocalDate nextOccurrence(TaskType taskType, LocalDate dueDate, String recurrenceRule,
+                                           LocalDateTime createdAt, LocalDate after) {
+        if (taskType == TaskType.ONE_TIME) {
+            return dueDate != null && dueDate.isAfter(after) ? dueDate : null;
+        }
+        if (recurrenceRule == null) return null;
+
+        // 매일
+        if ("DAILY".equals(recurrenceRule)) return after.plusDays(1);
+
+        try {
+            // N일 간격 - 시작일(생성일)부터 n의 배수만큼 떨어진 날
+            if (recurrenceRule.startsWith("EVERY_N_DAYS:")) {
+                int n = Integer.parseInt(recurrenceRule.split(":")[1]);
+                if (n <= 0 || createdAt == null) return null;
+                LocalDate start = createdAt.toLocalDate();
+                long offset = ChronoUnit.DAYS.between(start, after.plusDays(1));
+                if (offset <= 0) return start;
+                return start.plusDays((offset + n - 1) / n * n);
+            }
+            // 매월 d일 - 그 날짜가 없는 달(2월 30일 등)은 건너뜀, 31일이어도 최대 두 달 안에 나옴
+            if (recurrenceRule.startsWith("MONTHLY:")) {
+                int day = Integer.parseInt(recurrenceRule.split(":")[1]);
+                if (day < 1 || day > 31) return null;
+                YearMonth month = YearMonth.from(after);
+                if (after.getDayOfMonth() >= day) month = month.plusMonths(1);
+                while (month.lengthOfMonth() < day) {
+                    month = month.plusMonths(1);
+                }
+                return month.atDay(day);
+            }
+        } catch (Exception e) {
+            return null; // isScheduledForDate와 같이 파싱 에러는 일정 없음으로
+        }
+        return null;
+    }
+
+    // [from, to] 사이의 일정 날짜들 (일정 하나당 O(1))
+    public static List<LocalDate> occurrences(Task task, LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = nextOccurrence(task, from.minusDays(1));
+        while (date != null && !date.isAfter(to)) {
+            dates.add(date);
+            date = nextOccurrence(task, date);
         }
-        return isRecurringTaskScheduled(task, date);
+        return dates;
     }
 
-    private static boolean isOneTimeTaskScheduled(Task task, LocalDate date, boolean isCompletedToday) {
-        LocalDate due = task.getDueDate();
+    private static boolean isOneTimeTaskScheduled(LocalDate due, LocalDate date, boolean isCompletedToday) {
         // 오늘 마감
         if (due.isEqual(date)) return true;
         // 마감 지났는데 아직 안 함
@@ -26,8 +90,7 @@ public class RecurrenceUtils {
         return false;
     }
 
-    private static boolean isRecurringTaskScheduled(Task task, LocalDate date) {
-        String rule = task.getRecurrenceRule();
+    private static boolean isRecurringTaskScheduled(String rule, LocalDateTime createdAt, LocalDate date) {
         if (rule == null) return false;
 
         // 매일
@@ -37,7 +100,7 @@ public class RecurrenceUtils {
             // N일 간격 ("EVERY_N_DAYS:3")
             if (rule.startsWith("EVERY_N_DAYS:")) {
                 int n = Integer.parseInt(rule.split(":")[1]);
-                LocalDate start = task.getCreatedAt().toLocalDate();
+                LocalDate start = createdAt.toLocalDate();
                 long daysBetween = ChronoUnit.DAYS.between(start, date);
                 return daysBetween >= 0 && daysBetween % n == 0;
             }
@@ -52,4 +115,4 @@ public class RecurrenceUtils {
         }
         return false;
     }
-}
\ No newline at end of file
+}
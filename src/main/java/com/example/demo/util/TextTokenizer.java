@@ -0,0 +1,94 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 검색용 토큰 분리 (형태소 분석기 없이)
+// - 영문/숫자 등: 공백, 문장부호 기준 단어 + 소문자화
+// - 한글: 붙어있는 글자 묶음을 2글자씩(bigram) 잘라서 색인 -> 조사가 붙어도("운동을") "운동"으로 검색됨
+//   묶음 전체도 같이 색인 (정확히 같은 단어면 점수 더 받음)
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public record QueryTerm(String term, boolean prefix) {
+    }
+
+    // 색인용
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (Run run : runs(text)) {
+            if (run.hangul() && run.text().length() > 1) {
+                addBigrams(run.text(), tokens);
+            }
+            tokens.add(run.text());
+        }
+        return tokens;
+    }
+
+    // 검색어용 - 마지막 단어는 입력 중일 수 있으므로 prefix 매칭 (type-ahead)
+    public static List<QueryTerm> tokenizeQuery(String query) {
+        List<Run> runs = runs(query);
+        boolean typing = !query.isEmpty() && !Character.isWhitespace(query.charAt(query.length() - 1));
+        List<QueryTerm> terms = new ArrayList<>();
+        for (int i = 0; i < runs.size(); i++) {
+            Run run = runs.get(i);
+            boolean last = typing && i == runs.size() - 1;
+            if (run.hangul() && run.text().length() > 1) {
+                Set<String> bigrams = new LinkedHashSet<>();
+                addBigrams(run.text(), bigrams);
+                int index = 0;
+                for (String bigram : bigrams) {
+                    terms.add(new QueryTerm(bigram, last && ++index == bigrams.size()));
+                }
+            } else {
+                terms.add(new QueryTerm(run.text(), last));
+            }
+        }
+        return terms;
+    }
+
+    private static void addBigrams(String text, Set<String> out) {
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            out.add(text.substring(i, i + 2));
+        }
+    }
+
+    // 글자/숫자가 이어진 구간을 한글 / 그 외로 나눔
+    private static List<Run> runs(String text) {
+        List<Run> runs = new ArrayList<>();
+        if (text == null) return runs;
+
+        StringBuilder current = new StringBuilder();
+        boolean currentHangul = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (!Character.isLetterOrDigit(cp)) {
+                flush(current, currentHangul, runs);
+                continue;
+            }
+            boolean hangul = Character.UnicodeScript.of(cp) == Character.UnicodeScript.HANGUL;
+            if (current.length() > 0 && hangul != currentHangul) {
+                flush(current, currentHangul, runs);
+            }
+            currentHangul = hangul;
+            current.appendCodePoint(Character.toLowerCase(cp));
+        }
+        flush(current, currentHangul, runs);
+        return runs;
+    }
+
+    private static void flush(StringBuilder current, boolean hangul, List<Run> runs) {
+        if (current.length() == 0) return;
+        runs.add(new Run(current.toString(), hangul));
+        current.setLength(0);
+    }
+
+    private record Run(String text, boolean hangul) {
+    }
+}
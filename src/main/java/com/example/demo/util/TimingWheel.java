@@ -0,0 +1,139 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 계층형 timing wheel - 타이머 추가/취소 O(1), 만료 처리는 tick마다 bucket 하나씩
+// - level i의 bucket 하나 = wheelSize^i tick
+// - 상위 level bucket은 차례가 오면 하위 level로 내려보냄 (cascade)
+// - 가장 상위 level보다 먼 타이머는 overflow에 두었다가 상위 level이 한 바퀴 돌 때 다시 배치
+// 스레드 안전 (모든 메서드 synchronized)
+public class TimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;                 // level별 bucket 하나의 tick 수
+    private final List<List<Entry<K, V>>>[] levels;
+    private final List<Entry<K, V>> overflow = new ArrayList<>();
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levelCount];
+        this.levels = new List[levelCount];
+        long span = 1;
+        for (int i = 0; i < levelCount; i++) {
+            spans[i] = span;
+            levels[i] = new ArrayList<>(wheelSize);
+            for (int b = 0; b < wheelSize; b++) {
+                levels[i].add(new ArrayList<>());
+            }
+            span *= wheelSize;
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // 같은 key가 있으면 교체, 이미 만료 시각이 지났으면 false (호출하는 쪽에서 바로 처리)
+    public synchronized boolean add(K key, long expiresAtMillis, V value) {
+        remove(key);
+        Entry<K, V> entry = new Entry<>(key, expiresAtMillis / tickMillis, value);
+        if (!place(entry)) return false;
+        entries.put(key, entry);
+        return true;
+    }
+
+    // 취소 표시만 하고 bucket에서는 만료/cascade 때 걸러냄
+    public synchronized boolean remove(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) return false;
+        entry.cancelled = true;
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // nowMillis까지 시계를 진행시키고 만료된 값들을 반환
+    public synchronized List<V> advance(long nowMillis) {
+        List<V> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascadeOverflow(expired);
+            for (int level = levels.length - 1; level >= 1; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(levels[level].get(bucketIndex(currentTick, level)), expired);
+                }
+            }
+            List<Entry<K, V>> bucket = levels[0].get(bucketIndex(currentTick, 0));
+            for (Entry<K, V> entry : bucket) {
+                expire(entry, expired);
+            }
+            bucket.clear();
+        }
+        return expired;
+    }
+
+    private void cascadeOverflow(List<V> expired) {
+        long topSpan = spans[levels.length - 1] * wheelSize;
+        if (overflow.isEmpty() || currentTick % topSpan != 0) return;
+        List<Entry<K, V>> pending = new ArrayList<>(overflow);
+        overflow.clear();
+        cascade(pending, expired);
+    }
+
+    private void cascade(List<Entry<K, V>> bucket, List<V> expired) {
+        List<Entry<K, V>> pending = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<K, V> entry : pending) {
+            if (!entry.cancelled && !place(entry)) expire(entry, expired);
+        }
+    }
+
+    private void expire(Entry<K, V> entry, List<V> expired) {
+        if (entry.cancelled) return;
+        entries.remove(entry.key);
+        expired.add(entry.value);
+    }
+
+    // 현재 위치와 bucket 차이가 wheelSize 미만인 가장 낮은 level에 배치, 만료 시각이 지났으면 false
+    private boolean place(Entry<K, V> entry) {
+        if (entry.tick <= currentTick) return false;
+        for (int level = 0; level < levels.length; level++) {
+            if (entry.tick / spans[level] - currentTick / spans[level] < wheelSize) {
+                levels[level].get(bucketIndex(entry.tick, level)).add(entry);
+                return true;
+            }
+        }
+        overflow.add(entry);
+        return true;
+    }
+
+    private int bucketIndex(long tick, int level) {
+        return (int) ((tick / spans[level]) % wheelSize);
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final long tick;
+        private final V value;
+        private boolean cancelled;
+
+        private Entry(K key, long tick, V value) {
+            this.key = key;
+            this.tick = tick;
+            this.value = value;
+        }
+    }
+}
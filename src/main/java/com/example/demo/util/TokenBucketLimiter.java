@@ -0,0 +1,87 @@
+package com.example.demo.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 키(사용자)별 token bucket
+// - 버킷 상태는 불변 객체 + CAS로 교체 (락 없음)
+// - 맵을 여러 stripe로 나눠서 경합 / 정리(evict) 비용을 분산
+public class TokenBucketLimiter {
+
+    private final ConcurrentHashMap<String, Bucket>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(int stripeCount) {
+        this.stripes = new ConcurrentHashMap[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    // 토큰 1개 소비 시도. 성공하면 0, 실패하면 다음 토큰까지 남은 시간(nanos)
+    public long tryConsume(String key, long capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+        Bucket bucket = stripeOf(key).computeIfAbsent(key, k -> new Bucket(capacity, now));
+        return bucket.tryConsume(capacity, refillPerSecond, now);
+    }
+
+    // idleNanos 동안 사용되지 않은 버킷 제거 (꽉 찬 버킷과 동일하게 취급되므로 지워도 무방)
+    public int evictIdle(long idleNanos) {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            for (var entry : stripe.entrySet()) {
+                if (now - entry.getValue().lastAccess() > idleNanos
+                        && stripe.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, Bucket> stripeOf(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[(h & 0x7fffffff) % stripes.length];
+    }
+
+    private record State(double tokens, long lastRefillNanos) {}
+
+    private static class Bucket {
+        private final AtomicReference<State> state;
+
+        Bucket(long capacity, long now) {
+            this.state = new AtomicReference<>(new State(capacity, now));
+        }
+
+        long lastAccess() {
+            return state.get().lastRefillNanos();
+        }
+
+        long tryConsume(long capacity, double refillPerSecond, long now) {
+            while (true) {
+                State current = state.get();
+                long elapsed = Math.max(0, now - current.lastRefillNanos());
+                double tokens = Math.min(capacity, current.tokens() + elapsed * refillPerSecond / 1_000_000_000d);
+                long refillAt = Math.max(now, current.lastRefillNanos());
+
+                if (tokens < 1) {
+                    // 부족하면 상태는 그대로 두고 대기 시간만 계산
+                    return (long) Math.ceil((1 - tokens) / refillPerSecond * 1_000_000_000d);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, refillAt))) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 정렬 기준 앞쪽 k개만 유지 (크기 k짜리 heap, 전체 정렬 X)
+// offer O(log k), 메모리 O(k)
+public class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;    // 뒤쪽(버릴 후보)이 head
+
+    public TopK(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(k, 1) + 1, order.reversed());
+    }
+
+    public void offer(T item) {
+        if (k <= 0) return;
+        if (heap.size() < k) {
+            heap.offer(item);
+        } else if (order.compare(item, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(item);
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public List<T> toSortedList() {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(order);
+        return items;
+    }
+}
@@ -0,0 +1,281 @@
+// ✅ API 경로 상수
+const AUTH_API = '/api/auth';
+const TASK_API = '/todo/tasks';
+
+let token = localStorage.getItem('accessToken');
+
+// 초기 실행
+if (token) {
+    showApp();
+} else {
+    document.getElementById('date-input').valueAsDate = new Date();
+    updateInputUI();
+}
+
+// --- 화면 제어 ---
+function toggleAuthMode(mode) {
+    const loginSec = document.getElementById('login-section');
+    const signupSec = document.getElementById('signup-section');
+    document.getElementById('login-error').innerText = '';
+    document.getElementById('signup-error').innerText = '';
+
+    if (mode === 'signup') {
+        loginSec.classList.add('hidden');
+        signupSec.classList.remove('hidden');
+    } else {
+        signupSec.classList.add('hidden');
+        loginSec.classList.remove('hidden');
+    }
+}
+
+function updateInputUI() {
+    const type = document.getElementById('recurrence-type').value;
+    const dateInput = document.getElementById('date-input');
+    const numberInput = document.getElementById('number-input');
+    const hint = document.getElementById('input-hint');
+
+    dateInput.classList.add('hidden');
+    numberInput.classList.add('hidden');
+    hint.innerText = "";
+
+    if (type === 'ONE_TIME') {
+        dateInput.classList.remove('hidden');
+        if(!dateInput.value) dateInput.valueAsDate = new Date();
+    } else if (type === 'EVERY_N_DAYS') {
+        numberInput.classList.remove('hidden');
+        numberInput.placeholder = "간격 (일)";
+        hint.innerText = "예: 3 입력 시 3일마다 반복";
+    } else if (type === 'MONTHLY') {
+        numberInput.classList.remove('hidden');
+        numberInput.placeholder = "일 (1~31)";
+        numberInput.value = new Date().getDate();
+        hint.innerText = "매월 해당 날짜에 반복";
+    } else if (type === 'DAILY') {
+        hint.innerText = "매일매일 반복됩니다";
+    }
+}
+
+// --- Auth ---
+async function signup() {
+    const email = document.getElementById('signup-email').value;
+    const password = document.getElementById('signup-password').value;
+    const nickname = document.getElementById('signup-nickname').value;
+
+    try {
+        const res = await fetch(`${AUTH_API}/signup`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ email, password, nickname })
+        });
+
+        // 백엔드 리팩토링으로 ApiResponse가 옴. res.ok가 true면 성공.
+        if (res.ok) {
+            alert("가입 성공! 로그인 해주세요.");
+            toggleAuthMode('login');
+            document.getElementById('login-email').value = email;
+        } else {
+            // 실패 시 message 꺼내기
+            const json = await res.json();
+            document.getElementById('signup-error').innerText = json.message || "가입 실패";
+        }
+    } catch (e) {
+        document.getElementById('signup-error').innerText = "서버 연결 오류";
+    }
+}
+
+async function login() {
+    const email = document.getElementById('login-email').value;
+    const password = document.getElementById('login-password').value;
+
+    try {
+        const res = await fetch(`${AUTH_API}/login`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ email, password })
+        });
+
+        const json = await res.json(); // ApiResponse 객체 받기
+
+        if (!res.ok) {
+            throw new Error(json.message || '로그인 실패');
+        }
+
+        // ✅ [수정] ApiResponse 구조: json.data.accessToken
+        token = json.data.accessToken;
+        localStorage.setItem('accessToken', token);
+        localStorage.setItem('refreshToken', json.data.refreshToken);
+        showApp();
+    } catch (e) {
+        document.getElementById('login-error').innerText = e.message;
+    }
+}
+
+function logout() {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+        fetch(`${AUTH_API}/logout`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken })
+        });
+    }
+    localStorage.removeItem('accessToken');
+    localStorage.removeItem('refreshToken');
+    location.reload();
+}
+
+// access token 만료 시 refresh token으로 재발급 (실패하면 false)
+async function refreshAccessToken() {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (!refreshToken) return false;
+
+    const res = await fetch(`${AUTH_API}/refresh`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ refreshToken })
+    });
+    if (!res.ok) return false;
+
+    const json = await res.json();
+    token = json.data.accessToken;
+    localStorage.setItem('accessToken', token);
+    localStorage.setItem('refreshToken', json.data.refreshToken);
+    return true;
+}
+
+function showApp() {
+    document.getElementById('login-section').classList.add('hidden');
+    document.getElementById('signup-section').classList.add('hidden');
+    document.getElementById('app-section').classList.remove('hidden');
+    updateInputUI();
+    loadTasks();
+}
+
+// --- Task ---
+async function loadTasks(retried = false) {
+    const res = await fetch(`${TASK_API}/today`, {
+        headers: { 'Authorization': `Bearer ${token}` }
+    });
+
+    if (res.status === 403 || res.status === 401) {
+        if (!retried && await refreshAccessToken()) { loadTasks(true); return; }
+        logout(); return;
+    }
+
+    const response = await res.json(); // ApiResponse
+    // ✅ [수정] 실제 데이터는 response.data 안에 있음
+    const data = response.data;
+
+    renderList('today-list', data.today, true);
+    document.getElementById('today-count').innerText = data.today.length;
+
+    renderList('upcoming-list', data.upcoming, false);
+    document.getElementById('upcoming-count').innerText = data.upcoming.length;
+}
+
+function renderList(elementId, tasks, isToday) {
+    const list = document.getElementById(elementId);
+    list.innerHTML = '';
+
+    if (!tasks || tasks.length === 0) {
+        list.innerHTML = '<div style="text-align:center; color:#9ca3af; padding:15px; font-size:0.9rem;">없음</div>';
+        return;
+    }
+
+    tasks.forEach(task => {
+        const div = document.createElement('div');
+        div.className = `task-item ${task.completed ? 'completed' : ''}`;
+
+        let metaHtml = '';
+        if (task.taskType === 'RECURRING') {
+            let ruleText = "반복";
+            if (task.recurrenceRule === 'DAILY') ruleText = "매일";
+            else if (task.recurrenceRule.startsWith('EVERY_N_DAYS')) ruleText = `${task.recurrenceRule.split(':')[1]}일 간격`;
+            else if (task.recurrenceRule.startsWith('MONTHLY')) ruleText = `매월 ${task.recurrenceRule.split(':')[1]}일`;
+            metaHtml = `<span class="tag recurring">🔄 ${ruleText}</span>`;
+        } else {
+            const dateClass = isToday ? 'tag d-day' : 'tag future';
+            const dateText = isToday ? '오늘 마감' : `${task.dueDate} 까지`;
+            metaHtml = `<span class="${dateClass}">${dateText}</span>`;
+        }
+
+        div.innerHTML = `
+            <div class="task-content">
+                <span class="task-title">${task.title}</span>
+                <div class="task-meta">${metaHtml}</div>
+            </div>
+            <div class="task-controls">
+                <button class="delete-btn" onclick="deleteTask(${task.id})">❌</button>
+
+                ${isToday ? `
+                <input type="checkbox" class="checkbox"
+                    ${task.completed ? 'checked' : ''}
+                    onchange="toggleTask(${task.id}, this.checked)">
+                ` : ''}
+            </div>
+        `;
+        list.appendChild(div);
+    });
+}
+
+async function addTask() {
+    const title = document.getElementById('task-title').value;
+    const typeSelection = document.getElementById('recurrence-type').value;
+    const dateVal = document.getElementById('date-input').value;
+    const numberVal = document.getElementById('number-input').value;
+
+    if (!title) return alert("내용을 입력하세요");
+
+    let taskType = "ONE_TIME";
+    let dueDate = null;
+    let recurrenceRule = null;
+
+    if (typeSelection === 'ONE_TIME') {
+        if (!dateVal) return alert("날짜를 선택하세요");
+        taskType = "ONE_TIME";
+        dueDate = dateVal;
+    } else {
+        taskType = "RECURRING";
+        if (typeSelection === 'DAILY') {
+            recurrenceRule = "DAILY";
+        } else if (typeSelection === 'EVERY_N_DAYS') {
+            if (!numberVal) return alert("간격을 입력하세요");
+            recurrenceRule = `EVERY_N_DAYS:${numberVal}`;
+        } else if (typeSelection === 'MONTHLY') {
+            if (!numberVal || numberVal < 1 || numberVal > 31) return alert("날짜(1~31)를 입력하세요");
+            recurrenceRule = `MONTHLY:${numberVal}`;
+        }
+    }
+
+    const res = await fetch(TASK_API, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json', 'Authorization': `Bearer ${token}` },
+        body: JSON.stringify({ title, taskType, dueDate, recurrenceRule })
+    });
+
+    if (res.ok) {
+        document.getElementById('task-title').value = '';
+        loadTasks();
+    } else {
+        const json = await res.json();
+        alert(json.message || "추가 실패");
+    }
+}
+
+async function toggleTask(taskId, isChecked) {
+    const method = isChecked ? 'POST' : 'DELETE';
+    await fetch(`${TASK_API}/${taskId}/complete`, {
+        method: method,
+        headers: { 'Authorization': `Bearer ${token}` }
+    });
+    loadTasks();
+}
+
+async function deleteTask(taskId) {
+    if (!confirm("삭제하시겠습니까?")) return;
+    await fetch(`${TASK_API}/${taskId}`, {
+        method: 'DELETE',
+        headers: { 'Authorization': `Bearer ${token}` }
+    });
+    loadTasks();
+}
@@ -0,0 +1,145 @@
+package com.example.demo.config;
+
+import com.example.demo.domain.TaskType;
+import com.example.demo.dto.ApiResponse;
+import com.example.demo.dto.TaskResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataFormatConfigTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    // 스프링 부트 기본 JSON 설정과 같게 (날짜는 yyyy-MM-dd 문자열)
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static final ObjectMapper JSON = builder().build();
+    private static final ObjectMapper CBOR = DataFormatConfig.compactBinaryMapper(builder(), new CBORFactory());
+    private static final ObjectMapper SMILE = DataFormatConfig.compactBinaryMapper(builder(), new SmileFactory());
+
+    // GET /todo/tasks/today 응답 모양 (오늘 n개 + 다가오는 일정 n개, 일회성/반복 반반)
+    private static ApiResponse<Map<String, List<TaskResponse>>> schedule(int n) {
+        List<TaskResponse> today = new ArrayList<>();
+        List<TaskResponse> upcoming = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            boolean recurring = i % 2 == 0;
+            TaskResponse task = TaskResponse.builder()
+                    .id(1000L + i)
+                    .title("할 일 " + i)
+                    .description(i % 3 == 0 ? "설명 " + i : null)
+                    .taskType(recurring ? TaskType.RECURRING : TaskType.ONE_TIME)
+                    .dueDate(recurring ? null : TODAY.plusDays(i % 7))
+                    .recurrenceRule(recurring ? "WEEKLY:MON,WED" : null)
+                    .isCompleted(i % 4 == 0)
+                    .build();
+            today.add(task);
+            upcoming.add(task.toBuilder().id(5000L + i).nextDate(TODAY.plusDays(1 + i % 30)).build());
+        }
+        Map<String, List<TaskResponse>> data = new LinkedHashMap<>();
+        data.put("today", today);
+        data.put("upcoming", upcoming);
+        return new ApiResponse<>(200, "조회 성공", data);
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷은 날짜를 epoch day, enum을 순번으로 쓰고 null 필드는 생략")
+    void compactEncoding() throws Exception {
+        TaskResponse task = schedule(2).getData().get("upcoming").get(1);
+
+        for (ObjectMapper mapper : List.of(CBOR, SMILE)) {
+            JsonNode node = mapper.readTree(mapper.writeValueAsBytes(task));
+
+            assertThat(node.get("dueDate").asLong()).isEqualTo(TODAY.plusDays(1).toEpochDay());
+            assertThat(node.get("nextDate").asLong()).isEqualTo(TODAY.plusDays(2).toEpochDay());
+            assertThat(node.get("taskType").asInt()).isEqualTo(TaskType.ONE_TIME.ordinal());
+            assertThat(node.has("recurrenceRule")).isFalse();
+            assertThat(node.has("description")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리로 쓴 날짜/enum을 다시 읽을 수 있고, JSON 형식 날짜 문자열도 허용")
+    void roundTrip() throws Exception {
+        record Payload(LocalDate date, TaskType type) {}
+
+        for (ObjectMapper mapper : List.of(CBOR, SMILE)) {
+            Payload payload = new Payload(TODAY, TaskType.RECURRING);
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(payload), Payload.class)).isEqualTo(payload);
+
+            byte[] stringDate = mapper.writeValueAsBytes(Map.of("date", "2026-03-10", "type", "ONE_TIME"));
+            assertThat(mapper.readValue(stringDate, Payload.class)).isEqualTo(new Payload(TODAY, TaskType.ONE_TIME));
+        }
+    }
+
+    @Test
+    @DisplayName("일정 응답은 바이너리 포맷이 JSON보다 작음")
+    void smallerThanJson() throws Exception {
+        ApiResponse<Map<String, List<TaskResponse>>> response = schedule(50);
+        int json = JSON.writeValueAsBytes(response).length;
+
+        assertThat(CBOR.writeValueAsBytes(response).length).isLessThan(json);
+        assertThat(SMILE.writeValueAsBytes(response).length).isLessThan(json);
+    }
+
+    // ./gradlew benchmark - 일정 응답 크기와 직렬화/역직렬화 시간 비교
+    @Test
+    @Tag("benchmark")
+    void encodingBenchmark() throws Exception {
+        int warmup = 2_000;
+        int iterations = 5_000;
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", JSON);
+        formats.put("cbor", CBOR);
+        formats.put("smile", SMILE);
+
+        for (int n : new int[]{10, 100, 1_000}) {
+            ApiResponse<Map<String, List<TaskResponse>>> response = schedule(n);
+            System.out.printf("%n일정 %d + %d건%n", n, n);
+            System.out.printf("%-6s %10s %12s %12s%n", "format", "bytes", "write(us)", "read(us)");
+
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                ObjectMapper mapper = format.getValue();
+                byte[] bytes = mapper.writeValueAsBytes(response);
+
+                int rounds = Math.max(100, warmup * 10 / n);
+                for (int i = 0; i < rounds; i++) {
+                    mapper.writeValueAsBytes(response);
+                    mapper.readTree(bytes);
+                }
+
+                int measured = Math.max(100, iterations * 10 / n);
+                long start = System.nanoTime();
+                for (int i = 0; i < measured; i++) {
+                    mapper.writeValueAsBytes(response);
+                }
+                double writeMicros = (System.nanoTime() - start) / 1_000.0 / measured;
+
+                start = System.nanoTime();
+                for (int i = 0; i < measured; i++) {
+                    mapper.readTree(bytes);
+                }
+                double readMicros = (System.nanoTime() - start) / 1_000.0 / measured;
+
+                System.out.printf("%-6s %10d %12.1f %12.1f%n", format.getKey(), bytes.length, writeMicros, readMicros);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서로 다른 내장 H2 두 개(primary / replica)로 라우팅 확인 - 각 DB의 marker 행으로 어느 쪽에서 읽었는지 구분
+class ReplicationRoutingDataSourceTest {
+
+    private static final Duration LAG_TOLERANCE = Duration.ofMillis(300);
+
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        routingDataSource = new ReplicationRoutingDataSource(LAG_TOLERANCE);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                ReplicationRoutingDataSource.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table marker (name varchar(20))");
+        jdbc.update("insert into marker values (?)", name);
+        return dataSource;
+    }
+
+    private void loginAs(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+    }
+
+    private String readOnlyTarget() {
+        return readOnly.execute(status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+    }
+
+    private void write() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update marker set name = name"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖은 primary")
+    void routesByTransactionReadOnlyFlag() {
+        loginAs("a");
+
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> jdbcTemplate.queryForObject("select name from marker", String.class)))
+                .isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("select name from marker", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓴 사용자는 lag 허용시간 동안 primary에서 읽고, 다른 사용자는 replica")
+    void readYourWritesWithinTolerance() throws InterruptedException {
+        loginAs("a");
+        write();
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+
+        loginAs("b");
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+
+        loginAs("a");
+        Thread.sleep(LAG_TOLERANCE.toMillis() + 100);
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 시 last_write 쿠키를 붙이고, 다른 인스턴스에서는 그 쿠키로 primary에서 읽음")
+    void lastWriteCookieCarriesAcrossInstances() {
+        loginAs("a");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        write();
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(ReplicationRoutingDataSource.LAST_WRITE_COOKIE + "=")
+                .contains("HttpOnly");
+
+        // c는 이 인스턴스에서 쓴 기록이 없음 = 다른 인스턴스에서 쓴 경우, 쿠키로만 판단
+        loginAs("c");
+        requestWithCookie(System.currentTimeMillis());
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+
+        requestWithCookie(System.currentTimeMillis() - LAG_TOLERANCE.toMillis() - 100);
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 모든 읽기를 primary로")
+    void unhealthyReplicaFallsBackToPrimary() {
+        loginAs("a");
+        routingDataSource.setReplicaHealthy(false);
+
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+    }
+
+    private static void requestWithCookie(long lastWriteMillis) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReplicationRoutingDataSource.LAST_WRITE_COOKIE, String.valueOf(lastWriteMillis)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+}
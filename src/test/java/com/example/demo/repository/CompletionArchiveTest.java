@@ -0,0 +1,171 @@
+package com.example.demo.repository;
+
+import com.example.demo.config.ShardDirectory;
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskCompletion;
+import com.example.demo.domain.TaskCompletionArchive;
+import com.example.demo.domain.TaskType;
+import com.example.demo.domain.User;
+import com.example.demo.service.CompletionArchiveJob;
+import com.example.demo.service.JobLockService;
+import com.example.demo.service.ShardExecutor;
+import com.example.demo.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 완료 기록 아카이빙 전후로 이력 조회 결과가 같은지, 중단 후 이어서 처리하는지 (내장 H2)
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class CompletionArchiveTest {
+
+    // 아카이브 기준일(오늘 - 90일의 월초)보다 충분히 이전
+    private static final LocalDate JAN = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEB = LocalDate.of(2025, 2, 1);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Autowired
+    private TaskCompletionArchiveRepository archiveRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User user;
+    private Task daily;
+    private Task other;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("user@test.com").password("pw").nickname("user").build());
+        daily = persistTask("매일");
+        other = persistTask("다른 task");
+
+        // 1월 1일 / 15일 / 31일(bit 30), 2월 말일, 그리고 아카이브 대상이 아닌 오늘
+        complete(daily, JAN, JAN.withDayOfMonth(15), JAN.withDayOfMonth(31), FEB.withDayOfMonth(28), today);
+        complete(other, JAN.withDayOfMonth(2), JAN.withDayOfMonth(31));
+        em.flush();
+        em.clear();
+    }
+
+    private Task persistTask(String title) {
+        return em.persist(Task.builder()
+                .user(user)
+                .title(title)
+                .taskType(TaskType.RECURRING)
+                .recurrenceRule("DAILY")
+                .build());
+    }
+
+    private void complete(Task task, LocalDate... dates) {
+        for (LocalDate date : dates) {
+            em.persist(TaskCompletion.builder().task(task).completionDate(date).build());
+        }
+    }
+
+    private List<LocalDate> history(Task task) {
+        return taskService().getCompletionHistory(user.getId(), task.getId(), JAN.minusMonths(1), today);
+    }
+
+    @Test
+    @DisplayName("아카이빙 후에도 이력 조회 결과가 그대로이고 31일은 bit 30에 들어감")
+    void historyUnchangedByArchiving() {
+        List<LocalDate> dailyBefore = history(daily);
+        List<LocalDate> otherBefore = history(other);
+
+        archiveJob(500, 200).run();
+        em.clear();
+
+        // 오늘 완료 기록만 남음
+        assertThat(taskCompletionRepository.findAll()).extracting(TaskCompletion::getCompletionDate).containsExactly(today);
+        assertThat(history(daily)).isEqualTo(dailyBefore).hasSize(5);
+        assertThat(history(other)).isEqualTo(otherBefore).hasSize(2);
+
+        TaskCompletionArchive january = archiveRepository.findByTaskIdAndArchiveMonth(daily.getId(), JAN).orElseThrow();
+        assertThat(january.getCompletedDays()).isEqualTo(1 | 1 << 14 | 1 << 30);
+        assertThat(january.getCompletedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("chunk 단위로 나눠 돌다 중단되면 checkpoint 다음부터 이어서 같은 월 행에 합침")
+    void resumesAfterPartialRun() {
+        List<LocalDate> before = history(daily);
+
+        // chunk 2건 x 1회 -> 아카이브 대상 6건 중 2건만
+        archiveJob(2, 1).run();
+        em.clear();
+
+        JobCheckpoint checkpoint = checkpointRepository.findById("completion-archive").orElseThrow();
+        assertThat(checkpoint.getLastId()).isPositive();
+        assertThat(taskCompletionRepository.count()).isEqualTo(5);
+        assertThat(history(daily)).isEqualTo(before);
+
+        // 남은 4건 + 빈 chunk로 끝
+        archiveJob(2, 200).run();
+        em.clear();
+
+        assertThat(taskCompletionRepository.count()).isEqualTo(1);
+        assertThat(checkpointRepository.findById("completion-archive").orElseThrow().getLastId()).isZero();
+        // task / 월마다 한 행
+        assertThat(archiveRepository.findAll()).hasSize(3);
+        assertThat(history(daily)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("아카이브된 날짜의 완료를 취소하면 월별 비트에서도 빠짐")
+    void cancelUnmarksArchivedDay() {
+        archiveJob(500, 200).run();
+        em.clear();
+
+        taskService().cancelTaskCompletion(user.getId(), daily.getId(), JAN.withDayOfMonth(31));
+        em.flush();
+        em.clear();
+
+        assertThat(history(daily)).containsExactly(JAN, JAN.withDayOfMonth(15), FEB.withDayOfMonth(28), today);
+        assertThat(history(other)).contains(JAN.withDayOfMonth(31));
+    }
+
+    // 실행 환경 대신 직접 조립 (shard 없음)
+    private CompletionArchiveJob archiveJob(int chunkSize, int maxChunksPerRun) {
+        ShardExecutor shardExecutor = new ShardExecutor(
+                new StaticListableBeanFactory().getBeanProvider(ShardDirectory.class));
+        JobLockService jobLockService = new JobLockService(jobLockRepository, transactionManager, Duration.ofMinutes(10));
+        return new CompletionArchiveJob(taskCompletionRepository, archiveRepository, taskRepository, checkpointRepository,
+                transactionManager, shardExecutor, jobLockService, true, 90, chunkSize, maxChunksPerRun);
+    }
+
+    // 이력 조회 / 완료 취소만 사용 (알림 / 검색 / 일정 의존성 없음)
+    private TaskService taskService() {
+        return new TaskService(taskRepository, taskCompletionRepository, userRepository, archiveRepository,
+                null, null, null);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.repository;
+
+import com.example.demo.config.ShardDirectory;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskAgendaEntry;
+import com.example.demo.domain.TaskCompletion;
+import com.example.demo.domain.TaskCompletionArchive;
+import com.example.demo.domain.TaskReminder;
+import com.example.demo.domain.TaskType;
+import com.example.demo.domain.User;
+import com.example.demo.service.JobLockService;
+import com.example.demo.service.ShardExecutor;
+import com.example.demo.service.TaskPurgeJob;
+import com.example.demo.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 삭제 표시(tombstone)된 task가 조회에서 빠지는지, purge가 딸린 행까지 지우는지 (내장 H2)
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class TaskSoftDeleteTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Autowired
+    private TaskCompletionArchiveRepository archiveRepository;
+
+    @Autowired
+    private TaskReminderRepository reminderRepository;
+
+    @Autowired
+    private TaskAgendaRepository agendaRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User user;
+    private Task deleted;
+    private Task live;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("user@test.com").password("pw").nickname("user").build());
+        deleted = persistTaskWithChildren("삭제할 task");
+        live = persistTaskWithChildren("남길 task");
+
+        taskRepository.softDeleteOwned(user.getId(), deleted.getId(), LocalDateTime.now().minusMinutes(1));
+        em.flush();
+        em.clear();
+    }
+
+    // 매일 반복 task + 완료 기록 2건, 아카이브, 알림, 펼친 일정
+    private Task persistTaskWithChildren(String title) {
+        Task task = em.persist(Task.builder()
+                .user(user)
+                .title(title)
+                .taskType(TaskType.RECURRING)
+                .recurrenceRule("DAILY")
+                .build());
+        em.persist(TaskCompletion.builder().task(task).completionDate(today).build());
+        em.persist(TaskCompletion.builder().task(task).completionDate(today.minusDays(1)).build());
+        em.persist(TaskCompletionArchive.builder().task(task).archiveMonth(today.minusMonths(3)).build());
+        TaskReminder reminder = TaskReminder.builder().task(task).reminderTime(LocalTime.NOON).daysBefore(0).build();
+        reminder.scheduleFor(today.plusDays(1));
+        em.persist(reminder);
+        em.persist(new TaskAgendaEntry(user.getId(), today, task));
+        return task;
+    }
+
+    @Test
+    @DisplayName("삭제된 task는 일정 / 내보내기 / 이력 조회에서 빠짐")
+    void softDeletedTaskIsHiddenFromReads() {
+        // 일정 (getTaskSchedule)
+        List<Task> tasks = taskRepository.findAllByUserId(user.getId());
+        assertThat(tasks).extracting(Task::getId).containsExactly(live.getId());
+        Set<Long> completed = Set.of(deleted.getId(), live.getId());
+        assertThat(TaskService.buildSchedule(tasks, completed, today).values())
+                .allSatisfy(group -> assertThat(group).noneMatch(t -> t.getId().equals(deleted.getId())));
+
+        // 내보내기
+        try (Stream<TaskRepository.ExportRow> rows = taskRepository.streamExportRows(user.getId())) {
+            assertThat(rows.map(TaskRepository.ExportRow::getTaskId)).containsOnly(live.getId());
+        }
+
+        // 이력 (소유 확인에서 걸러짐)
+        assertThat(taskRepository.findByIdAndUserId(deleted.getId(), user.getId())).isEmpty();
+        assertThat(taskRepository.existsByIdAndUserId(deleted.getId(), user.getId())).isFalse();
+        assertThat(taskRepository.existsByIdAndUserId(live.getId(), user.getId())).isTrue();
+
+        // 다시 삭제해도 바뀌는 행 없음
+        assertThat(taskRepository.softDeleteOwned(user.getId(), deleted.getId(), LocalDateTime.now())).isZero();
+    }
+
+    @Test
+    @DisplayName("purge는 삭제된 task의 완료 기록 / 아카이브 / 알림 / 일정까지 지우고 나머지는 그대로 둠")
+    void purgeRemovesChildRows() {
+        purgeJob().run();
+        em.clear();
+
+        assertThat(taskRepository.findById(deleted.getId())).isEmpty();
+        assertThat(taskRepository.findById(live.getId())).isPresent();
+
+        assertThat(taskCompletionRepository.findAll()).extracting(c -> c.getTask().getId()).containsOnly(live.getId()).hasSize(2);
+        assertThat(archiveRepository.findAll()).extracting(a -> a.getTask().getId()).containsExactly(live.getId());
+        assertThat(reminderRepository.findAll()).extracting(r -> r.getTask().getId()).containsExactly(live.getId());
+        assertThat(agendaRepository.findAll()).extracting(a -> a.getTask().getId()).containsExactly(live.getId());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 lock을 잡고 있으면 purge하지 않음")
+    void purgeSkipsWhenLockedElsewhere() {
+        JobLockService other = new JobLockService(jobLockRepository, transactionManager, Duration.ofMinutes(10));
+        assertThat(other.tryLock("task-purge")).isTrue();
+        try {
+            purgeJob().run();
+            em.clear();
+
+            assertThat(taskRepository.findById(deleted.getId())).isPresent();
+        } finally {
+            other.unlock("task-purge");
+        }
+    }
+
+    // 실행 환경 대신 직접 조립 (shard 없음, 보존 기간 0, 속도 제한 없음)
+    private TaskPurgeJob purgeJob() {
+        ShardExecutor shardExecutor = new ShardExecutor(
+                new StaticListableBeanFactory().getBeanProvider(ShardDirectory.class));
+        JobLockService jobLockService = new JobLockService(jobLockRepository, transactionManager, Duration.ofMinutes(10));
+        return new TaskPurgeJob(taskRepository, taskCompletionRepository, archiveRepository, reminderRepository,
+                agendaRepository, transactionManager, shardExecutor, jobLockService,
+                true, Duration.ZERO, 50, 1, 0, 200);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardDirectory;
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskType;
+import com.example.demo.domain.User;
+import com.example.demo.dto.DailyDigest;
+import com.example.demo.repository.JobCheckpointRepository;
+import com.example.demo.repository.TaskCompletionRepository;
+import com.example.demo.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 가짜 db를 사용한 일일 요약 파티션 분할 / checkpoint 재개 테스트
+@ExtendWith(MockitoExtension.class)
+class DailyDigestJobTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+    private static final String CHECKPOINT = "daily-digest:" + DATE;
+    // task가 있는 사용자 1 ~ 5
+    private static final List<Long> OWNER_IDS = List.of(1L, 2L, 3L, 4L, 5L);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryDigestSink sink = new InMemoryDigestSink();
+
+    // checkpoint 테이블 대신
+    private final Map<String, JobCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    private DailyDigestJob job(int partitionSize, int parallelism) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.<String, Object>of("memory", sink));
+        ShardExecutor shardExecutor = new ShardExecutor(new StaticListableBeanFactory().getBeanProvider(ShardDirectory.class));
+        return new DailyDigestJob(taskRepository, taskCompletionRepository, checkpointRepository,
+                beans.getBeanProvider(DigestSink.class), shardExecutor, jobLockService, transactionManager,
+                true, partitionSize, parallelism, 2);
+    }
+
+    // lock은 항상 잡힘, checkpoint는 map에서 조회
+    private void givenLocked() {
+        given(jobLockService.runLocked(anyString(), any())).willAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+        given(checkpointRepository.findById(anyString()))
+                .willAnswer(inv -> Optional.ofNullable(checkpoints.get(inv.<String>getArgument(0))));
+    }
+
+    private void givenNewCheckpoint() {
+        given(checkpointRepository.save(any(JobCheckpoint.class))).willAnswer(inv -> {
+            JobCheckpoint checkpoint = inv.getArgument(0);
+            checkpoints.put(checkpoint.getJobName(), checkpoint);
+            return checkpoint;
+        });
+    }
+
+    // 사용자마다 오늘 마감인 task 1개
+    private void givenOwners() {
+        given(taskRepository.findOwnerIdsAfter(anyLong(), any(Limit.class))).willAnswer(inv -> {
+            long after = inv.getArgument(0);
+            Limit limit = inv.getArgument(1);
+            return OWNER_IDS.stream().filter(id -> id > after).limit(limit.max()).toList();
+        });
+        given(taskRepository.findAllByUserIdBetween(anyLong(), anyLong())).willAnswer(inv -> {
+            long from = inv.getArgument(0);
+            long to = inv.getArgument(1);
+            return LongStream.rangeClosed(from, to).mapToObj(DailyDigestJobTest::taskOf).toList();
+        });
+        given(taskCompletionRepository.findCompletedTaskIdsForUsers(anyLong(), anyLong(), eq(DATE))).willReturn(List.of());
+    }
+
+    private static Task taskOf(long userId) {
+        User user = User.builder().email(userId + "@test.com").password("pw").nickname("user" + userId).build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        Task task = Task.builder().user(user).title("task" + userId).taskType(TaskType.ONE_TIME).dueDate(DATE).build();
+        ReflectionTestUtils.setField(task, "id", userId * 10);
+        return task;
+    }
+
+    private List<Long> writtenUserIds() {
+        return sink.getWritten().stream().map(DailyDigest::userId).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("사용자를 id 범위 파티션으로 나눠 wave 단위로 처리하고 끝나면 완료 표시")
+    void partitionsByUserIdRange() {
+        givenLocked();
+        givenNewCheckpoint();
+        givenOwners();
+        given(jobLockService.renew("daily-digest")).willReturn(true);
+
+        // 파티션 2명 x 동시 2개 -> wave 1: [1,2] [3,4], wave 2: [5,5]
+        int users = job(2, 2).run(DATE, false);
+
+        assertThat(users).isEqualTo(5);
+        assertThat(writtenUserIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(taskRepository).findAllByUserIdBetween(1L, 2L);
+        verify(taskRepository).findAllByUserIdBetween(3L, 4L);
+        verify(taskRepository).findAllByUserIdBetween(5L, 5L);
+        assertThat(sink.getWritten()).allSatisfy(digest -> assertThat(digest.today()).hasSize(1));
+        assertThat(checkpoints.get(CHECKPOINT).getLastId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("중단된 checkpoint가 있으면 그 다음 사용자부터 이어서 처리")
+    void resumesFromCheckpoint() {
+        givenLocked();
+        givenOwners();
+        JobCheckpoint checkpoint = new JobCheckpoint(CHECKPOINT);
+        checkpoint.advance(2);
+        checkpoints.put(CHECKPOINT, checkpoint);
+
+        int users = job(2, 2).run(DATE, true);
+
+        assertThat(users).isEqualTo(3);
+        assertThat(writtenUserIds()).containsExactly(3L, 4L, 5L);
+        verify(taskRepository, never()).findAllByUserIdBetween(eq(1L), anyLong());
+        assertThat(checkpoint.getLastId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("재시작 시 그날 checkpoint가 없으면 새로 시작하지 않음")
+    void resumeOnlySkipsWithoutCheckpoint() {
+        givenLocked();
+
+        assertThat(job(2, 2).run(DATE, true)).isZero();
+
+        verify(taskRepository, never()).findOwnerIdsAfter(anyLong(), any(Limit.class));
+        assertThat(checkpoints).doesNotContainKey(CHECKPOINT);
+    }
+
+    @Test
+    @DisplayName("이미 끝난 날짜는 다시 처리하지 않음")
+    void skipsFinishedDate() {
+        givenLocked();
+        JobCheckpoint checkpoint = new JobCheckpoint(CHECKPOINT);
+        checkpoint.advance(Long.MAX_VALUE);
+        checkpoints.put(CHECKPOINT, checkpoint);
+
+        assertThat(job(2, 2).run(DATE, false)).isZero();
+
+        verify(taskRepository, never()).findOwnerIdsAfter(anyLong(), any(Limit.class));
+        assertThat(sink.getWritten()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 lock을 잡고 있으면 건너뜀")
+    void skipsWhenLockedElsewhere() {
+        given(jobLockService.runLocked(anyString(), any())).willReturn(false);
+
+        assertThat(job(2, 2).run(DATE, false)).isZero();
+
+        verify(checkpointRepository, never()).findById(anyString());
+        assertThat(sink.getWritten()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도중에 lock을 잃으면 완료 표시 없이 마지막 wave까지의 checkpoint만 남김")
+    void stopsWhenLockLost() {
+        givenLocked();
+        givenNewCheckpoint();
+        givenOwners();
+        given(jobLockService.renew("daily-digest")).willReturn(false);
+
+        // 파티션 2명 x 동시 1개 -> wave 1: [1,2] 이후 중단
+        int users = job(2, 1).run(DATE, false);
+
+        assertThat(users).isEqualTo(2);
+        assertThat(writtenUserIds()).containsExactly(1L, 2L);
+        assertThat(checkpoints.get(CHECKPOINT).getLastId()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.service;
+
+import com.example.demo.config.JwtTokenProvider;
+import com.example.demo.domain.RefreshToken;
+import com.example.demo.dto.AuthDto;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 가짜 db를 사용한 refresh token 회전 / 재사용 감지 테스트
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private RefreshTokenService refreshTokenService;
+
+    // 마지막으로 발급된 토큰 (저장된 엔티티)
+    private RefreshToken current;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtTokenProvider, 60_000);
+    }
+
+    // issue()로 발급하고 원문 반환 (저장된 엔티티는 current, 해시로 조회되게 해둠)
+    private String issue() {
+        given(jwtTokenProvider.createToken(USER_ID)).willReturn("access");
+        String rawToken = refreshTokenService.issue(USER_ID).getRefreshToken();
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        current = saved.getValue();
+        ReflectionTestUtils.setField(current, "id", 10L);
+        given(refreshTokenRepository.findByTokenHash(current.getTokenHash())).willReturn(Optional.of(current));
+        return rawToken;
+    }
+
+    @Test
+    @DisplayName("회전하면 이전 토큰은 사용처리되고 같은 family로 새 토큰 발급")
+    void rotate() {
+        String raw = issue();
+        given(refreshTokenRepository.markUsed(10L)).willReturn(1);
+
+        AuthDto.TokenResponse response = refreshTokenService.rotate(raw);
+
+        assertThat(response.getAccessToken()).isEqualTo("access");
+        assertThat(response.getRefreshToken()).isNotEqualTo(raw);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(saved.capture());
+        RefreshToken next = saved.getAllValues().get(1);
+        assertThat(next.getFamilyId()).isEqualTo(current.getFamilyId());
+        assertThat(next.getTokenHash()).isNotEqualTo(current.getTokenHash());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 토큰이 다시 오면 family 전체 폐기")
+    void reuseRevokesFamily() {
+        String raw = issue();
+        ReflectionTestUtils.setField(current, "revoked", true);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(raw))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        verify(refreshTokenRepository).revokeFamily(current.getFamilyId());
+        verify(refreshTokenRepository, never()).markUsed(anyLong());
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 사용처리에 지면 재사용으로 보고 family 폐기")
+    void concurrentRotateRevokesFamily() {
+        String raw = issue();
+        given(refreshTokenRepository.markUsed(10L)).willReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(raw)).isInstanceOf(CustomException.class);
+
+        verify(refreshTokenRepository).revokeFamily(current.getFamilyId());
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 사용처리 없이 거절 (재사용으로 보지 않음)")
+    void expiredIsRejectedWithoutMarkingUsed() {
+        String raw = issue();
+        ReflectionTestUtils.setField(current, "expiresAt", LocalDateTime.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(raw)).isInstanceOf(CustomException.class);
+
+        verify(refreshTokenRepository, never()).markUsed(anyLong());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("모르는 토큰은 거절")
+    void unknownToken() {
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown")).isInstanceOf(CustomException.class);
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 family 전체 폐기")
+    void revoke() {
+        String raw = issue();
+
+        refreshTokenService.revoke(raw);
+
+        verify(refreshTokenRepository).revokeFamily(current.getFamilyId());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.User;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 가짜 db를 사용한 가입 이메일 필터 테스트
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RegisteredEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RegisteredEmailFilter(userRepository, true, 1000, 0.001);
+    }
+
+    private void rebuildWith(long maxId, String... emails) {
+        given(userRepository.findMaxId()).willReturn(maxId);
+        given(userRepository.count()).willReturn((long) emails.length);
+        given(userRepository.streamAllEmails()).willReturn(Stream.of(emails));
+        filter.rebuild();
+    }
+
+    private static UserRepository.EmailRow row(long id, String email) {
+        return new UserRepository.EmailRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("필터 준비 전에는 DB를 조회")
+    void queriesBeforeRebuild() {
+        given(userRepository.findByEmail("a@test.com")).willReturn(Optional.empty());
+
+        assertThat(filter.findUser("a@test.com")).isEmpty();
+        verify(userRepository).findByEmail("a@test.com");
+    }
+
+    @Test
+    @DisplayName("필터에 없는 이메일은 DB 조회 없이 없음")
+    void missSkipsQuery() {
+        rebuildWith(1, "a@test.com");
+
+        assertThat(filter.findUser("unknown@test.com")).isEmpty();
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 가입분은 poll로 반영되고 마지막 위치보다 조금 앞에서부터 다시 읽음")
+    void pollAddsNewUsers() {
+        rebuildWith(500, "a@test.com");
+        given(userRepository.findEmailsAfter(eq(400L), any(Limit.class)))
+                .willReturn(List.of(row(501, "b@test.com")));
+        User user = User.builder().email("b@test.com").password("pw").nickname("b").build();
+        given(userRepository.findByEmail("b@test.com")).willReturn(Optional.of(user));
+
+        filter.pollNewUsers();
+
+        assertThat(filter.findUser("b@test.com")).contains(user);
+    }
+}
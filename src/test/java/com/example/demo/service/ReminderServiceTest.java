@@ -0,0 +1,208 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskReminder;
+import com.example.demo.domain.TaskType;
+import com.example.demo.domain.User;
+import com.example.demo.dto.ReminderNotification;
+import com.example.demo.dto.TaskRequest;
+import com.example.demo.repository.TaskReminderRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 실제 timing wheel + 내장 H2로 알림 등록 / 발송 / 다음 일정 이동 / 재시작 확인 (reminder.sink=memory)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reminder_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "reminder.enabled=true",
+        "reminder.sink=memory",
+        "reminder.tick=50ms",
+        "reminder.catch-up-interval=200ms",
+        "reminder.max-lateness=1h",
+        "digest.enabled=false",
+        "purge.enabled=false"
+})
+@ActiveProfiles("h2")
+class ReminderServiceTest {
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private InMemoryReminderSink sink;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskReminderRepository reminderRepository;
+
+    @Autowired
+    private ShardExecutor shardExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@test.com").password("pw").nickname("user").build());
+    }
+
+    @Test
+    @DisplayName("마감 2일 전에 3일 전 알림을 등록하면 바로 울리고 다음 알림은 없음")
+    void firesImmediatelyWhenFireTimeAlreadyPassed() throws InterruptedException {
+        Long taskId = taskService.createTask(user.getId(), TaskRequest.builder()
+                .title("보고서")
+                .taskType(TaskType.ONE_TIME)
+                .dueDate(LocalDate.now().plusDays(2))
+                .reminderTime(LocalTime.of(9, 0))
+                .reminderDaysBefore(3)
+                .build());
+
+        awaitUntil(() -> deliveredCount(taskId) == 1);
+        ReminderNotification notification = delivered(taskId);
+        assertThat(notification.occurrenceDate()).isEqualTo(LocalDate.now().plusDays(2));
+        awaitUntil(() -> reminderOf(taskId).getNextFireAt() == null);
+    }
+
+    @Test
+    @DisplayName("반복 task 알림은 울린 뒤 다음 일정으로 nextFireAt이 옮겨짐")
+    void recurringReminderMovesToNextOccurrence() throws InterruptedException {
+        // 알림 시각은 초 단위로 저장됨
+        LocalDateTime fireAt = LocalDateTime.now().plusSeconds(2).truncatedTo(ChronoUnit.SECONDS);
+        assumeTrue(fireAt.toLocalDate().equals(LocalDate.now()), "자정 직전에는 건너뜀");
+
+        Long taskId = taskService.createTask(user.getId(), TaskRequest.builder()
+                .title("운동")
+                .taskType(TaskType.RECURRING)
+                .recurrenceRule("DAILY")
+                .reminderTime(fireAt.toLocalTime())
+                .reminderDaysBefore(0)
+                .build());
+        assertThat(reminderOf(taskId).getNextFireAt()).isEqualTo(fireAt);
+
+        awaitUntil(() -> deliveredCount(taskId) == 1);
+        awaitUntil(() -> LocalDate.now().plusDays(1).equals(reminderOf(taskId).getOccurrenceDate()));
+        assertThat(reminderOf(taskId).getNextFireAt()).isEqualTo(fireAt.plusDays(1));
+        assertThat(deliveredCount(taskId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 알림은 catch-up 조회로 올라와서 울림")
+    void catchUpLoadsRemindersSavedElsewhere() throws InterruptedException {
+        Task task = saveTask(TaskType.ONE_TIME, null);
+        // register()를 거치지 않고 바로 저장 = 이 인스턴스 wheel에는 없음
+        TaskReminder reminder = TaskReminder.builder().task(task).reminderTime(LocalTime.MIN).daysBefore(0).build();
+        reminder.scheduleFor(LocalDate.now(), LocalDateTime.now());
+        reminderRepository.save(reminder);
+
+        awaitUntil(() -> deliveredCount(task.getId()) == 1);
+        awaitUntil(() -> reminderOf(task.getId()).getNextFireAt() == null);
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("재시작하면 max-lateness 이내로 놓친 알림은 보내고, 더 오래된 알림은 건너뛰고 다음 일정으로")
+    void restartDeliversRecentAndSkipsStale() throws InterruptedException {
+        reminderService.stop();
+        LocalDateTime now = LocalDateTime.now();
+        Task recent = saveTask(TaskType.RECURRING, "DAILY");
+        Task stale = saveTask(TaskType.RECURRING, "DAILY");
+        saveReminderDueAt(recent, now.minusMinutes(5));
+        saveReminderDueAt(stale, now.minusHours(2));
+
+        // 새로 뜬 인스턴스 (wheel은 비어 있고 task_reminders만 남아 있음)
+        InMemoryReminderSink restartedSink = new InMemoryReminderSink();
+        ReminderService restarted = new ReminderService(reminderRepository,
+                new StaticListableBeanFactory(Map.<String, Object>of("memory", restartedSink)).getBeanProvider(ReminderSink.class),
+                shardExecutor, transactionManager, true, Duration.ofMillis(50), Duration.ofMinutes(10),
+                Duration.ofHours(1), 1000, Duration.ofMillis(200));
+        restarted.start();
+        try {
+            awaitUntil(() -> restartedSink.getDelivered().stream().anyMatch(n -> n.taskId().equals(recent.getId())));
+            awaitUntil(() -> reminderOf(stale.getId()).getOccurrenceDate().isAfter(LocalDate.now()));
+            awaitUntil(() -> reminderOf(recent.getId()).getOccurrenceDate().isAfter(LocalDate.now()));
+
+            assertThat(restartedSink.getDelivered()).noneMatch(n -> n.taskId().equals(stale.getId()));
+            assertThat(reminderOf(stale.getId()).getNextFireAt()).isAfter(now);
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    private Task saveTask(TaskType taskType, String recurrenceRule) {
+        return taskRepository.save(Task.builder()
+                .user(user)
+                .title("task")
+                .taskType(taskType)
+                .dueDate(taskType == TaskType.ONE_TIME ? LocalDate.now() : null)
+                .recurrenceRule(recurrenceRule)
+                .build());
+    }
+
+    // 오늘 일정 알림이 fireAt에 울렸어야 하는 상태로 저장
+    private void saveReminderDueAt(Task task, LocalDateTime fireAt) {
+        TaskReminder reminder = TaskReminder.builder().task(task).reminderTime(LocalTime.NOON).daysBefore(0).build();
+        reminder.scheduleFor(LocalDate.now());
+        ReflectionTestUtils.setField(reminder, "nextFireAt", fireAt);
+        reminderRepository.save(reminder);
+    }
+
+    private TaskReminder reminderOf(Long taskId) {
+        return transactionTemplate.execute(status -> reminderRepository.findAll().stream()
+                .filter(reminder -> reminder.getTask().getId().equals(taskId))
+                .findFirst()
+                .orElseThrow());
+    }
+
+    private long deliveredCount(Long taskId) {
+        return sink.getDelivered().stream().filter(n -> n.taskId().equals(taskId)).count();
+    }
+
+    private ReminderNotification delivered(Long taskId) {
+        return sink.getDelivered().stream().filter(n -> n.taskId().equals(taskId)).findFirst().orElseThrow();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("5초 안에 조건을 만족하지 않음");
+            Thread.sleep(20);
+        }
+    }
+}
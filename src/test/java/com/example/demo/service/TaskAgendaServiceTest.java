@@ -0,0 +1,177 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ShardDirectory;
+import com.example.demo.domain.JobCheckpoint;
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskCompletion;
+import com.example.demo.domain.TaskType;
+import com.example.demo.domain.User;
+import com.example.demo.dto.TaskResponse;
+import com.example.demo.repository.JobCheckpointRepository;
+import com.example.demo.repository.JobLockRepository;
+import com.example.demo.repository.TaskAgendaRepository;
+import com.example.demo.repository.TaskCompletionRepository;
+import com.example.demo.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 펼친 일정(task_agenda)으로 계산한 결과가 전체 계산(buildSchedule)과 같은지 (내장 H2)
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class TaskAgendaServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Autowired
+    private TaskAgendaRepository agendaRepository;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("user@test.com").password("pw").nickname("user").build());
+
+        persistOneTime(today);                                  // 오늘 마감
+        persistOneTime(today.minusDays(3));                     // 마감 지났는데 안 함
+        complete(persistOneTime(today.minusDays(3)));           // 마감 지났고 오늘 완료
+        persistOneTime(today.plusDays(2));
+        persistOneTime(today.plusDays(5));
+        persistOneTime(today.plusDays(100));                    // 펼친 범위 밖
+        persistRecurring("DAILY");
+        persistRecurring("MONTHLY:31");                         // 31일이 없는 달은 건너뜀
+        complete(persistRecurring("MONTHLY:" + today.getDayOfMonth()));
+        persistRecurring("MONTHLY:" + today.plusDays(1).getDayOfMonth());
+        em.flush();
+    }
+
+    private Task persistOneTime(LocalDate dueDate) {
+        return em.persist(Task.builder().user(user).title("한 번").taskType(TaskType.ONE_TIME).dueDate(dueDate).build());
+    }
+
+    private Task persistRecurring(String rule) {
+        return em.persist(Task.builder().user(user).title("반복").taskType(TaskType.RECURRING).recurrenceRule(rule).build());
+    }
+
+    private void complete(Task task) {
+        em.persist(TaskCompletion.builder().task(task).completionDate(today).build());
+    }
+
+    @Test
+    @DisplayName("펼친 범위가 넉넉하면 범위 안 행만으로 전체 계산과 같은 결과 (오늘 ~ 범위 끝)")
+    void matchesBuildScheduleWithinWideWindow() {
+        TaskAgendaService agendaService = agendaService(true, 62);
+        agendaJob(agendaService).run();
+
+        for (LocalDate date = today; !date.isAfter(today.plusDays(10)); date = date.plusDays(1)) {
+            assertSameSchedule(agendaService, date);
+        }
+        assertThat(agendaService.getSchedule(user.getId(), agendaService.windowEnd(today).plusDays(1))).isNull();
+    }
+
+    @Test
+    @DisplayName("펼친 범위가 좁아서 다가오는 일정을 범위 밖 task로 채워도 전체 계산과 같은 결과")
+    void matchesBuildScheduleWithNarrowWindow() {
+        TaskAgendaService agendaService = agendaService(true, 3);
+        agendaJob(agendaService).run();
+
+        for (LocalDate date = today; !date.isAfter(today.plusDays(3)); date = date.plusDays(1)) {
+            assertSameSchedule(agendaService, date);
+        }
+    }
+
+    @Test
+    @DisplayName("꺼진 인스턴스가 기동해도 펼친 범위 기록을 지우지 않고, 켜진 인스턴스의 기동 회차가 빠진 task를 다시 펼침")
+    void startupRerollsWithoutResettingCoverage() {
+        TaskAgendaService agendaService = agendaService(true, 14);
+        TaskAgendaJob agendaJob = agendaJob(agendaService);
+        agendaJob.run();
+
+        agendaService(false, 14).onStartup();
+        JobCheckpoint checkpoint = checkpointRepository.findById(TaskAgendaService.JOB_NAME).orElseThrow();
+        assertThat(checkpoint.getLastId()).isEqualTo(agendaService.windowEnd(today).toEpochDay());
+
+        // 꺼진 인스턴스에서 만든 task (일정 행 없음) -> 같은 날 다시 돌려도 이어서 펼칠 범위가 없어서 빠진 채로
+        persistRecurring("DAILY");
+        em.flush();
+        agendaJob.run();
+        assertThat(agendaService.getSchedule(user.getId(), today).get("today"))
+                .hasSize(expected(today).get("today").size() - 1);
+
+        // 기동 회차는 오늘부터 전체를 다시 펼침
+        agendaJob.run(true);
+        assertSameSchedule(agendaService, today);
+        assertThat(checkpointRepository.findById(TaskAgendaService.JOB_NAME).orElseThrow().getLastId())
+                .isEqualTo(agendaService.windowEnd(today).toEpochDay());
+    }
+
+    private void assertSameSchedule(TaskAgendaService agendaService, LocalDate date) {
+        Map<String, List<TaskResponse>> expected = expected(date);
+        Map<String, List<TaskResponse>> actual = agendaService.getSchedule(user.getId(), date);
+
+        assertThat(actual).as("펼친 범위 안 %s", date).isNotNull();
+        // 오늘 목록은 넣은 순서 그대로라 순서 무시, 다가오는 일정은 (날짜, id) 순
+        assertThat(actual.get("today")).as("today %s", date)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(expected.get("today"));
+        assertThat(actual.get("upcoming")).as("upcoming %s", date)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected.get("upcoming"));
+    }
+
+    private Map<String, List<TaskResponse>> expected(LocalDate date) {
+        return TaskService.buildSchedule(taskRepository.findAllByUserId(user.getId()),
+                new HashSet<>(taskCompletionRepository.findCompletedTaskIds(user.getId(), date)), date);
+    }
+
+    // 실행 환경 대신 직접 조립 (shard 없음)
+    private TaskAgendaService agendaService(boolean enabled, int windowDays) {
+        return new TaskAgendaService(agendaRepository, taskRepository, checkpointRepository, shardExecutor(),
+                transactionManager, enabled, windowDays);
+    }
+
+    private TaskAgendaJob agendaJob(TaskAgendaService agendaService) {
+        JobLockService jobLockService = new JobLockService(jobLockRepository, transactionManager, Duration.ofMinutes(10));
+        return new TaskAgendaJob(agendaService, agendaRepository, taskRepository, checkpointRepository,
+                new JdbcTemplate(dataSource), transactionManager, shardExecutor(), jobLockService, 3, 1000);
+    }
+
+    private static ShardExecutor shardExecutor() {
+        return new ShardExecutor(new StaticListableBeanFactory().getBeanProvider(ShardDirectory.class));
+    }
+}
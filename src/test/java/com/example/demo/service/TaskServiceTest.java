@@ -4,6 +4,7 @@ import com.example.demo.domain.Task;
 import com.example.demo.domain.TaskType;
 import com.example.demo.domain.User;
 import com.example.demo.dto.TaskRequest;
+import com.example.demo.dto.TaskResponse;
 import com.example.demo.repository.TaskCompletionRepository;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.repository.UserRepository;
@@ -16,7 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +42,15 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReminderService reminderService;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskAgendaService taskAgendaService;
+
     // 가짜 레포들을 주입
     @InjectMocks
     private TaskService taskService;
@@ -67,4 +82,55 @@ class TaskServiceTest {
 
         assertThat(taskId).isEqualTo(100L);
     }
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 15);
+
+    private static Task oneTime(long id, LocalDate dueDate) {
+        Task task = Task.builder().title("한 번 " + id).taskType(TaskType.ONE_TIME).dueDate(dueDate).build();
+        ReflectionTestUtils.setField(task, "id", id);
+        return task;
+    }
+
+    private static Task recurring(long id, String rule) {
+        Task task = Task.builder().title("반복 " + id).taskType(TaskType.RECURRING).recurrenceRule(rule).build();
+        ReflectionTestUtils.setField(task, "id", id);
+        return task;
+    }
+
+    @Test
+    @DisplayName("오늘 일정은 넣은 순서대로, 다가오는 일정은 반복 task까지 날짜 -> id 순")
+    void buildScheduleClassifiesTasks() {
+        List<Task> tasks = List.of(
+                oneTime(1, DATE),                   // 오늘 마감
+                oneTime(2, DATE.minusDays(5)),      // 마감 지났는데 안 함
+                oneTime(3, DATE.minusDays(5)),      // 마감 지났고 오늘 완료 -> 어디에도 없음
+                oneTime(4, DATE.plusDays(5)),
+                recurring(5, "MONTHLY:31"),
+                recurring(6, "MONTHLY:15"),         // 오늘 반복 + 완료
+                oneTime(8, DATE.plusDays(1)),       // 7번과 같은 날 -> id 순
+                recurring(7, "MONTHLY:16"));
+
+        Map<String, List<TaskResponse>> schedule = TaskService.buildSchedule(tasks, Set.of(3L, 6L), DATE);
+
+        assertThat(schedule.get("today")).extracting(TaskResponse::getId).containsExactly(1L, 2L, 6L);
+        assertThat(schedule.get("today")).extracting(TaskResponse::isCompleted).containsExactly(false, false, true);
+        assertThat(schedule.get("upcoming")).extracting(TaskResponse::getId).containsExactly(7L, 8L, 4L, 5L);
+        assertThat(schedule.get("upcoming")).extracting(TaskResponse::getNextDate).containsExactly(
+                DATE.plusDays(1), DATE.plusDays(1), DATE.plusDays(5), LocalDate.of(2026, 1, 31));
+    }
+
+    @Test
+    @DisplayName("다가오는 일정은 가까운 UPCOMING_LIMIT개만, 같은 날짜면 id가 작은 쪽을 남김")
+    void buildScheduleKeepsNearestUpcoming() {
+        // id 1 ~ 60 모두 같은 날 마감 (역순으로 넣음) + 더 먼 날 마감 1개
+        List<Task> tasks = new ArrayList<>();
+        LongStream.rangeClosed(1, 60).map(i -> 61 - i).forEach(id -> tasks.add(oneTime(id, DATE.plusDays(3))));
+        tasks.add(0, oneTime(100, DATE.plusDays(10)));
+
+        List<TaskResponse> upcoming = TaskService.buildSchedule(tasks, Set.of(), DATE).get("upcoming");
+
+        assertThat(upcoming).hasSize(TaskService.UPCOMING_LIMIT);
+        assertThat(upcoming).extracting(TaskResponse::getId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, TaskService.UPCOMING_LIMIT).boxed().toList());
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된다고 판단 (false negative 없음)")
+    void noFalseNegative() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("user" + i + "@test.com");
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("user" + i + "@test.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률이 설정값 근처로 유지됨")
+    void falsePositiveRate() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("user" + i + "@test.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("other" + i + "@test.com")) falsePositives++;
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
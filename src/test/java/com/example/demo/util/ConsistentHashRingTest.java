@@ -0,0 +1,44 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    @Test
+    @DisplayName("사용자가 shard들에 고르게 분산됨")
+    void distributesEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2), 128);
+        int[] counts = new int[3];
+        for (long userId = 1; userId <= 30000; userId++) {
+            counts[ring.shardOf(userId)]++;
+        }
+
+        for (int count : counts) {
+            assertThat(count).isBetween(8000, 12000);
+        }
+    }
+
+    @Test
+    @DisplayName("shard를 추가하면 일부 사용자만 새 shard로 이동하고 나머지는 그대로")
+    void addingShardMovesOnlyAFraction() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of(0, 1, 2), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(0, 1, 2, 3), 128);
+
+        int moved = 0;
+        for (long userId = 1; userId <= 30000; userId++) {
+            int from = before.shardOf(userId);
+            int to = after.shardOf(userId);
+            if (from != to) {
+                moved++;
+                assertThat(to).isEqualTo(3);
+            }
+        }
+
+        assertThat(moved).isBetween(5000, 10000);
+    }
+}
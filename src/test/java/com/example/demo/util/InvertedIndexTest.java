@@ -0,0 +1,69 @@
+package com.example.demo.util;
+
+import com.example.demo.util.InvertedIndex.Hit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private InvertedIndex<String> sampleIndex() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put(1, "운동", "헬스장 가서 운동하기", "하체 위주");
+        index.put(2, "장보기", "마트 장보기", "우유, 계란 사기");
+        index.put(3, "report", "Write weekly report", "send to the team");
+        index.put(4, "운동 기록", "러닝 기록 정리", "주말에 한 운동을 정리");
+        return index;
+    }
+
+    private List<Long> ids(List<Hit<String>> hits) {
+        return hits.stream().map(Hit::id).toList();
+    }
+
+    @Test
+    @DisplayName("한글은 조사가 붙어 있어도 검색되고, 제목 일치가 설명 일치보다 앞에 옴")
+    void koreanBigramSearch() {
+        assertThat(ids(sampleIndex().search("운동 ", 10))).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("마지막 단어는 앞부분만 입력해도 매칭 (type-ahead)")
+    void prefixMatch() {
+        InvertedIndex<String> index = sampleIndex();
+
+        assertThat(ids(index.search("rep", 10))).containsExactly(3L);
+        assertThat(ids(index.search("WEEKLY rep", 10))).containsExactly(3L);
+        assertThat(index.search("rep ", 10)).isEmpty(); // 입력이 끝난 단어는 완전 일치만
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 단어가 포함된 문서만 반환")
+    void allTermsRequired() {
+        assertThat(ids(sampleIndex().search("운동 정리", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("삭제/교체한 문서는 더 이상 검색되지 않음")
+    void removeAndReplace() {
+        InvertedIndex<String> index = sampleIndex();
+        index.remove(1);
+        index.put(2, "장보기", "주말 운동", null);
+
+        assertThat(ids(index.search("운동 ", 10))).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(index.search("마트", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 limit개만 반환")
+    void topK() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        for (int i = 1; i <= 50; i++) {
+            index.put(i, "task" + i, "daily task " + i, null);
+        }
+
+        assertThat(index.search("daily", 5)).hasSize(5);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.util;
+
+import com.example.demo.exception.SuccessCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("끝까지 쓰면 ApiResponse와 같은 모양의 JSON")
+    void writesEnvelope() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, SuccessCode.SELECT_SUCCESS)) {
+            writer.startArray(null);
+            writer.writeRow(1);
+            writer.writeRow(2);
+            writer.endArray();
+            writer.finish();
+        }
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertThat(body.get("status").asInt()).isEqualTo(200);
+        assertThat(body.get("data")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("도중에 예외가 나면 원래 예외가 전달되고 본문은 닫히지 않은 채로 끝남")
+    void failureKeepsOriginalExceptionAndTruncatesBody() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> {
+            try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, SuccessCode.SELECT_SUCCESS)) {
+                writer.startArray(null);
+                writer.writeRow(1);
+                throw new IllegalStateException("커서 끊김");
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessage("커서 끊김").hasNoSuppressedExceptions();
+
+        // 잘린 본문이 정상 JSON으로 읽히면 안 됨
+        assertThatThrownBy(() -> objectMapper.readTree(out.toByteArray())).isInstanceOf(JsonProcessingException.class);
+        assertThat(out.toString()).endsWith("[1");
+    }
+}
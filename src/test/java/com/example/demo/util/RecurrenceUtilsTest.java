@@ -0,0 +1,74 @@
+package com.example.demo.util;
+
+import com.example.demo.domain.Task;
+import com.example.demo.domain.TaskType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceUtilsTest {
+
+    private Task recurring(String rule, LocalDate createdOn) {
+        Task task = Task.builder().title("반복").taskType(TaskType.RECURRING).recurrenceRule(rule).build();
+        ReflectionTestUtils.setField(task, "createdAt", createdOn.atStartOfDay());
+        return task;
+    }
+
+    @Test
+    @DisplayName("일회성 task는 마감일이 after 이후일 때만 다음 일정")
+    void oneTime() {
+        Task task = Task.builder().title("한 번").taskType(TaskType.ONE_TIME).dueDate(LocalDate.of(2026, 3, 10)).build();
+
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2026, 3, 9))).isEqualTo(LocalDate.of(2026, 3, 10));
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2026, 3, 10))).isNull();
+    }
+
+    @Test
+    @DisplayName("N일 간격은 생성일 기준 n의 배수인 날")
+    void everyNDays() {
+        Task task = recurring("EVERY_N_DAYS:3", LocalDate.of(2026, 1, 1));
+
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2025, 12, 1))).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2026, 1, 1))).isEqualTo(LocalDate.of(2026, 1, 4));
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2026, 1, 3))).isEqualTo(LocalDate.of(2026, 1, 4));
+    }
+
+    @Test
+    @DisplayName("매월 31일은 31일이 없는 달을 건너뜀")
+    void monthlySkipsShortMonths() {
+        Task task = recurring("MONTHLY:31", LocalDate.of(2026, 1, 1));
+
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2026, 1, 31))).isEqualTo(LocalDate.of(2026, 3, 31));
+        assertThat(RecurrenceUtils.nextOccurrence(task, LocalDate.of(2026, 3, 30))).isEqualTo(LocalDate.of(2026, 3, 31));
+    }
+
+    @Test
+    @DisplayName("nextOccurrence / occurrences 결과가 isScheduledForDate와 일치")
+    void matchesIsScheduledForDate() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 12, 31);
+        for (String rule : new String[]{"DAILY", "EVERY_N_DAYS:5", "MONTHLY:29", "MONTHLY:15"}) {
+            Task task = recurring(rule, LocalDate.of(2025, 11, 20));
+
+            var expected = from.datesUntil(to.plusDays(1))
+                    .filter(date -> RecurrenceUtils.isScheduledForDate(task, date, false))
+                    .toList();
+            assertThat(RecurrenceUtils.occurrences(task, from, to)).as(rule).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("알 수 없는 규칙이나 생성일이 없으면 일정 없음")
+    void invalidRule() {
+        Task unknown = recurring("WEEKLY:MON", LocalDate.of(2026, 1, 1));
+        Task noCreatedAt = Task.builder().title("반복").taskType(TaskType.RECURRING).recurrenceRule("EVERY_N_DAYS:2").build();
+
+        assertThat(RecurrenceUtils.nextOccurrence(unknown, LocalDate.of(2026, 1, 1))).isNull();
+        assertThat(RecurrenceUtils.nextOccurrence(noCreatedAt, LocalDate.of(2026, 1, 1))).isNull();
+        assertThat(RecurrenceUtils.occurrences(unknown, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1))).isEmpty();
+    }
+}
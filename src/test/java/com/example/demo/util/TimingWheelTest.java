@@ -0,0 +1,67 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("상위 level에 들어간 타이머도 cascade 되어 제 시각(tick 단위)에 만료됨")
+    void expiresAtDeadline() {
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(10, 8, 3, START);
+        int[] delays = {15, 95, 700, 5_000, 60_000};   // level 0, 1, 2, overflow 모두 포함
+        for (int i = 0; i < delays.length; i++) {
+            assertThat(wheel.add(i, START + delays[i], i)).isTrue();
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            long deadline = START + delays[i];
+            assertThat(wheel.advance(deadline - 10)).isEmpty();
+            assertThat(wheel.advance(deadline)).containsExactly(i);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소된 타이머는 만료되지 않고, 같은 key로 다시 넣으면 교체됨")
+    void removeAndReplace() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(10, 8, 3, START);
+        wheel.add("a", START + 500, "a1");
+        wheel.add("b", START + 500, "b");
+        wheel.remove("b");
+        wheel.add("a", START + 900, "a2");
+
+        assertThat(wheel.advance(START + 800)).isEmpty();
+        assertThat(wheel.advance(START + 1000)).containsExactly("a2");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 추가되지 않음")
+    void rejectsPastDeadline() {
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(10, 8, 3, START);
+
+        assertThat(wheel.add(1, START - 100, 1)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 tick을 한 번에 진행해도 빠짐없이 만료됨")
+    void advanceManyTicksAtOnce() {
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(10, 8, 3, START);
+        for (int i = 1; i <= 1000; i++) {
+            wheel.add(i, START + i * 37L, i);
+        }
+
+        List<Integer> expired = new ArrayList<>(wheel.advance(START + 20_000));
+        expired.addAll(wheel.advance(START + 40_000));
+
+        assertThat(expired).hasSize(1000).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+
+    // 테스트 중에는 사실상 다시 차지 않는 속도 (1000초에 1개)
+    private static final double NO_REFILL = 0.001;
+
+    @Test
+    @DisplayName("capacity 만큼은 바로 통과하고 그 다음부터 대기 시간을 돌려줌")
+    void consumesUpToCapacity() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(4);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryConsume("user", 5, NO_REFILL)).isZero();
+        }
+
+        long waitNanos = limiter.tryConsume("user", 5, NO_REFILL);
+        assertThat(waitNanos).isGreaterThan(TimeUnit.SECONDS.toNanos(900));
+    }
+
+    @Test
+    @DisplayName("대기 시간은 토큰 1개가 다시 찰 때까지의 시간")
+    void waitTimeMatchesRefillRate() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(4);
+        limiter.tryConsume("user", 1, 2);
+
+        long waitNanos = limiter.tryConsume("user", 1, 2);
+
+        // 초당 2개 -> 최대 0.5초
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 다시 채워짐")
+    void refills() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(4);
+        assertThat(limiter.tryConsume("user", 1, 1000)).isZero();
+
+        long waitNanos = limiter.tryConsume("user", 1, 1000);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos + TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        assertThat(limiter.tryConsume("user", 1, 1000)).isZero();
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 따로")
+    void separateBucketsPerKey() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1);
+        assertThat(limiter.tryConsume("a", 1, NO_REFILL)).isZero();
+        assertThat(limiter.tryConsume("a", 1, NO_REFILL)).isPositive();
+
+        assertThat(limiter.tryConsume("b", 1, NO_REFILL)).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 capacity 보다 많이 통과하지 않음")
+    void concurrentConsumeNeverExceedsCapacity() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(4);
+        int threads = 8;
+        int attemptsPerThread = 500;
+        long capacity = 1000;
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int passed = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryConsume("user", capacity, NO_REFILL) == 0) passed++;
+                    }
+                    return passed;
+                }));
+            }
+            start.countDown();
+
+            int passed = 0;
+            for (Future<Integer> result : results) {
+                passed += result.get();
+            }
+            assertThat(passed).isEqualTo(capacity);
+        }
+    }
+
+    @Test
+    @DisplayName("오래 사용하지 않은 버킷만 정리")
+    void evictIdle() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(4);
+        limiter.tryConsume("idle", 1, NO_REFILL);
+        TimeUnit.MILLISECONDS.sleep(20);
+        limiter.tryConsume("active", 1, NO_REFILL);
+
+        int evicted = limiter.evictIdle(TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        // 정리된 키는 꽉 찬 버킷으로 다시 시작
+        assertThat(limiter.tryConsume("idle", 1, NO_REFILL)).isZero();
+    }
+}